@@ -0,0 +1,73 @@
+package main.benchmarks;
+
+import main.fillers.Fillers;
+import main.sorters.AdaptiveBubbleDownSorter;
+import main.sorters.AdaptiveBubbleUpSorter;
+import main.sorters.BubbleDownSorter;
+import main.sorters.BubbleUpSorter;
+import main.sorters.CocktailShakerSorter;
+import main.sorters.Sorter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of {@link main.sorters.BubbleSorter} implementations against their adaptive local-variable kernels
+ * and {@link CocktailShakerSorter}.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BubbleKernelsBenchmark {
+
+    @Param({"getSorted", "getNearlySorted", "getRandom", "getReversed"})
+    public String filler;
+
+    @Param({"1000", "10000"})
+    public int length;
+
+    private int[] source;
+    private int[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        source = (int[]) Fillers.class.getMethod(filler, int.class).invoke(null, length);
+        work = new int[length];
+    }
+
+    private int[] sort(Sorter sorter) {
+        System.arraycopy(source, 0, work, 0, length);
+        return sorter.doSorting(work);
+    }
+
+    @Benchmark
+    public int[] bubbleUp() {
+        return sort(new BubbleUpSorter());
+    }
+
+    @Benchmark
+    public int[] adaptiveBubbleUp() {
+        return sort(new AdaptiveBubbleUpSorter());
+    }
+
+    @Benchmark
+    public int[] bubbleDown() {
+        return sort(new BubbleDownSorter());
+    }
+
+    @Benchmark
+    public int[] adaptiveBubbleDown() {
+        return sort(new AdaptiveBubbleDownSorter());
+    }
+
+    @Benchmark
+    public int[] cocktailShaker() {
+        return sort(new CocktailShakerSorter());
+    }
+}
@@ -0,0 +1,151 @@
+package main.benchmarks;
+
+import main.ReflectionUtils;
+import main.fillers.ArrayFiller;
+import main.fillers.Fillers;
+import main.sorters.JavaSorter;
+import main.sorters.Sorter;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * JMH benchmark of call overhead of different dispatch mechanisms, that can be used by {@link main.analyzer.Analyzer}
+ * for calling sorters and fillers: {@link Method#invoke(Object, Object...)}, {@link MethodHandle#invokeExact(Object...)},
+ * {@link LambdaMetafactory} lambdas and plain virtual calls.
+ * <p>
+ * Method handles are kept in {@code static final} fields, so that the JIT compiler treats them as constants
+ * and inlines their targets, as it does for handles of real callers.
+ * <p>
+ * Sorting benchmarks sort an already sorted array with {@link JavaSorter}, so that on small sizes
+ * the measured time is dominated by the call itself. Filler benchmarks call {@link Fillers#getSorted(int)}
+ * and {@link Fillers#getSorted(int[], long)}, which matches {@link ArrayFiller}, that is called by the analyzer.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DispatchBenchmark {
+    private static final Method SORTING_METHOD;
+    private static final MethodHandle SORTING_HANDLE;
+    private static final Method FILLER_METHOD;
+    private static final MethodHandle FILLER_HANDLE;
+    private static final Method ARRAY_FILLER_METHOD;
+    private static final MethodHandle ARRAY_FILLER_HANDLE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            SORTING_METHOD = Sorter.class.getMethod("doSorting", int[].class);
+            SORTING_HANDLE = lookup.unreflect(SORTING_METHOD);
+            FILLER_METHOD = Fillers.class.getMethod("getSorted", int.class);
+            FILLER_HANDLE = lookup.unreflect(FILLER_METHOD);
+            ARRAY_FILLER_METHOD = Fillers.class.getMethod("getSorted", int[].class, long.class);
+            ARRAY_FILLER_HANDLE = lookup.unreflect(ARRAY_FILLER_METHOD);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"1", "16", "256"})
+    public int length;
+
+    private int[] array;
+    private int[] target;
+    private Sorter sorter;
+    private UnaryOperator<int[]> sortingLambda;
+    private IntFunction<int[]> fillerLambda;
+    private ArrayFiller arrayFillerLambda;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Throwable {
+        array = Fillers.getSorted(length);
+        target = new int[length];
+        sorter = new JavaSorter();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply",
+                MethodType.methodType(UnaryOperator.class, Sorter.class),
+                MethodType.methodType(Object.class, Object.class),
+                SORTING_HANDLE,
+                MethodType.methodType(int[].class, int[].class));
+        sortingLambda = (UnaryOperator<int[]>) callSite.getTarget().invoke(sorter);
+
+        fillerLambda = ReflectionUtils.getStaticMethodAsFunction(FILLER_METHOD, IntFunction.class);
+        arrayFillerLambda = ReflectionUtils.getStaticMethodAsFunction(ARRAY_FILLER_METHOD, ArrayFiller.class);
+    }
+
+    @Benchmark
+    public int[] sorterVirtualCall() {
+        return sorter.doSorting(array);
+    }
+
+    @Benchmark
+    public Object sorterReflection() throws Exception {
+        return SORTING_METHOD.invoke(sorter, (Object) array);
+    }
+
+    @Benchmark
+    public int[] sorterMethodHandle() throws Throwable {
+        return (int[]) SORTING_HANDLE.invokeExact(sorter, array);
+    }
+
+    @Benchmark
+    public int[] sorterLambdaMetafactory() {
+        return sortingLambda.apply(array);
+    }
+
+    @Benchmark
+    public int[] fillerDirectCall() {
+        return Fillers.getSorted(length);
+    }
+
+    @Benchmark
+    public Object fillerReflection() throws Exception {
+        return FILLER_METHOD.invoke(null, length);
+    }
+
+    @Benchmark
+    public int[] fillerMethodHandle() throws Throwable {
+        return (int[]) FILLER_HANDLE.invokeExact(length);
+    }
+
+    @Benchmark
+    public int[] fillerLambdaMetafactory() {
+        return fillerLambda.apply(length);
+    }
+
+    @Benchmark
+    public int[] arrayFillerDirectCall() {
+        return Fillers.getSorted(target, Fillers.DEFAULT_SEED);
+    }
+
+    @Benchmark
+    public Object arrayFillerReflection() throws Exception {
+        return ARRAY_FILLER_METHOD.invoke(null, target, Fillers.DEFAULT_SEED);
+    }
+
+    @Benchmark
+    public int[] arrayFillerMethodHandle() throws Throwable {
+        return (int[]) ARRAY_FILLER_HANDLE.invokeExact(target, Fillers.DEFAULT_SEED);
+    }
+
+    @Benchmark
+    public int[] arrayFillerLambdaMetafactory() {
+        return arrayFillerLambda.fill(target, Fillers.DEFAULT_SEED);
+    }
+}
@@ -0,0 +1,77 @@
+package main.benchmarks;
+
+import main.analyzer.TimeStatistics;
+import main.excel.ExcelExport;
+import main.excel.StreamingExcelExport;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of .xlsx export time of {@link ExcelExport} and {@link StreamingExcelExport}
+ * on synthetic analysis results with many array lengths.
+ * <p>
+ * Every fork measures a single export, so that results of a fork are not affected by garbage of previous exports.
+ * Run with {@code -prof main.benchmarks.PeakHeapProfiler} to compare peak used heap of the exports,
+ * with {@code -prof gc} to compare their allocation, or with a small {@code -jvmArgs -Xmx} to find the heap size,
+ * that the export needs.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(5)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class ExcelExportBenchmark {
+
+    @Param({"20", "500"})
+    public int lengthStepsCount;
+
+    @Param({"5"})
+    public int fillersCount;
+
+    @Param({"15"})
+    public int sortersCount;
+
+    private NavigableMap<String, NavigableMap<String, TimeStatistics[]>> data;
+    private int[] lengthSteps;
+
+    @Setup
+    public void setUp() {
+        new File("out/output").mkdirs();
+        lengthSteps = new int[lengthStepsCount];
+        for (int i = 0; i < lengthSteps.length; i++) {
+            lengthSteps[i] = (i + 1) * 100;
+        }
+        data = new TreeMap<>();
+        for (int f = 0; f < fillersCount; f++) {
+            NavigableMap<String, TimeStatistics[]> sortersData = new TreeMap<>();
+            for (int s = 0; s < sortersCount; s++) {
+                TimeStatistics[] sorterData = new TimeStatistics[lengthSteps.length];
+                for (int i = 0; i < sorterData.length; i++) {
+                    long time = (long) lengthSteps[i] * (s + 1) * 10;
+                    sorterData[i] = new TimeStatistics(5, time, time, time, time, time, time, 0, 0);
+                }
+                sortersData.put("Test" + s + "Sorter", sorterData);
+            }
+            data.put("getFiller" + f, sortersData);
+        }
+    }
+
+    @Benchmark
+    public File workbookExport() throws IOException {
+        return new ExcelExport().getOutputFile(data, lengthSteps);
+    }
+
+    @Benchmark
+    public File streamingExport() throws IOException {
+        return new StreamingExcelExport().getOutputFile(data, lengthSteps);
+    }
+}
@@ -0,0 +1,47 @@
+package main.benchmarks;
+
+import main.fillers.ArrayFiller;
+import main.fillers.Fillers;
+import main.registry.Registry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of array generation by {@link Fillers.Filler} methods into a reused array,
+ * as {@link main.analyzer.Analyzer} generates arrays of large sweeps.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FillersBenchmark {
+
+    @Param({"getSorted", "getNearlySorted", "getReversed", "getRandom",
+            "getZipf", "getFewUnique", "getSawtooth", "getOrganPipe", "getPartiallySorted"})
+    public String filler;
+
+    @Param({"100000", "10000000"})
+    public int length;
+
+    private ArrayFiller arrayFiller;
+    private int[] target;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        arrayFiller = Registry.getInstance().getFillers().get(filler);
+        target = new int[length];
+        seed = Fillers.seed(Fillers.DEFAULT_SEED, filler, length, 0);
+    }
+
+    @Benchmark
+    public int[] fill() {
+        return arrayFiller.fill(target, seed);
+    }
+}
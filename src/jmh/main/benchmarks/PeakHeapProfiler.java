@@ -0,0 +1,58 @@
+package main.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * JMH profiler, that reports peak used heap of every iteration as the {@code \u00b7peak.heap} secondary result,
+ * is used with {@code -prof main.benchmarks.PeakHeapProfiler}.
+ * <p>
+ * Peak usage of all heap memory pools is reset before the iteration and summed after it. Pools reach their peaks
+ * at different moments, so the sum is an upper bound of the actual peak heap usage.
+ * Garbage of previous iterations is counted too, so single-shot benchmarks with one iteration per fork
+ * give the most precise results.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public class PeakHeapProfiler implements InternalProfiler {
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    @Override
+    public String getDescription() {
+        return "Peak used heap of an iteration";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+                                                       IterationResult result) {
+        long peakUsed = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peakUsed += pool.getPeakUsage().getUsed();
+            }
+        }
+        return Collections.singletonList(new ScalarResult("\u00b7peak.heap", peakUsed / BYTES_PER_MEGABYTE, "MB",
+                AggregationPolicy.MAX));
+    }
+}
@@ -0,0 +1,34 @@
+package main.benchmarks;
+
+import main.registry.Registry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of {@link Registry} loading time in a fresh JVM: from the compile-time index files
+ * and by classpath scanning, which was used by {@link main.analyzer.Analyzer} before the index was introduced.
+ * <p>
+ * Every fork measures a single cold call, so the results include class loading and initialization.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(10)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class RegistryBenchmark {
+
+    @Benchmark
+    public Registry loadFromIndex() {
+        return Registry.load();
+    }
+
+    @Benchmark
+    public Registry loadByScanning() {
+        return Registry.scan();
+    }
+}
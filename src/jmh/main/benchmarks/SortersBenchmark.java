@@ -0,0 +1,66 @@
+package main.benchmarks;
+
+import main.fillers.Fillers;
+import main.registry.Registry;
+import main.sorters.Sorter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of every {@link Sorter} implementation on arrays, generated by every {@link Fillers.Filler} method.
+ * <p>
+ * Parameter values are not listed in the annotations and are passed by {@link SortersBenchmarkRunner},
+ * which takes all sorters and fillers from {@link Registry} in the same way as {@link main.analyzer.Analyzer} does.
+ * <p>
+ * Sorters sort in place, so every invocation copies the generated array into a work buffer first.
+ * The copy is linear in array size and is negligible compared to the sorting itself.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SortersBenchmark {
+
+    /**
+     * Name of a {@link Sorter} implementation class.
+     */
+    @Param({})
+    public String sorter;
+
+    /**
+     * Name of a {@link Fillers.Filler} method.
+     */
+    @Param({})
+    public String filler;
+
+    /**
+     * Array size.
+     */
+    @Param({})
+    public int length;
+
+    private Sorter sorterObject;
+    private int[] source;
+    private int[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        sorterObject = Class.forName(sorter).asSubclass(Sorter.class).newInstance();
+        source = Registry.getInstance().getFillers().get(filler).fill(new int[length],
+                Fillers.seed(Fillers.DEFAULT_SEED, filler, length, 0));
+        work = new int[length];
+    }
+
+    @Benchmark
+    public void doSorting(Blackhole blackhole) {
+        System.arraycopy(source, 0, work, 0, length);
+        blackhole.consume(sorterObject.doSorting(work));
+    }
+}
@@ -0,0 +1,55 @@
+package main.benchmarks;
+
+import com.sun.javaws.exceptions.InvalidArgumentException;
+import main.analyzer.Analyzer;
+import main.registry.Registry;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * Runs {@link SortersBenchmark} for every combination of sorter, filler and array size.
+ * <p>
+ * Arguments are the same as in {@link main.Controller}: initial and final value of array sizes interval and
+ * number of steps on interval. Without arguments the "def" values are used.
+ * Results are saved in JSON format to "out/output/Sorters Benchmark.json".
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public class SortersBenchmarkRunner {
+    public static void main(String args[]) throws RunnerException, InvalidArgumentException {
+        int minLength = 1000;
+        int maxLength = 30000;
+        int stepsCount = 20;
+        if (args.length == 3) {
+            minLength = Integer.parseInt(args[0]);
+            maxLength = Integer.parseInt(args[1]);
+            stepsCount = Integer.parseInt(args[2]);
+        }
+
+        String[] sorters = Registry.getInstance().getSorterClasses().stream()
+                .map(Class::getName).sorted().toArray(String[]::new);
+        String[] fillers = Registry.getInstance().getFillers().keySet().stream()
+                .sorted().toArray(String[]::new);
+        String[] lengths = Arrays.stream(Analyzer.calcStepsOnInterval(minLength, maxLength, stepsCount))
+                .distinct().mapToObj(String::valueOf).toArray(String[]::new);
+
+        File resultFile = new File("out/output/Sorters Benchmark.json");
+        resultFile.getParentFile().mkdirs();
+        Options options = new OptionsBuilder()
+                .include(SortersBenchmark.class.getSimpleName())
+                .param("sorter", sorters)
+                .param("filler", fillers)
+                .param("length", lengths)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.getPath())
+                .build();
+        new Runner(options).run();
+    }
+}
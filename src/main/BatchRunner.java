@@ -0,0 +1,289 @@
+package main;
+
+import com.sun.javaws.exceptions.InvalidArgumentException;
+import main.analyzer.Analyzer;
+import main.analyzer.ForkMode;
+import main.analyzer.IsolationPolicy;
+import main.fillers.DatasetCache;
+import main.fillers.DatasetCorpus;
+import main.output.BinarySink;
+import main.output.CsvSink;
+import main.output.ExcelSink;
+import main.output.JsonLinesSink;
+import main.output.ResultJournal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A program for non-interactive analysis of several sweeps in one JVM, so that later sweeps run
+ * with already loaded classes and compiled code. It does not open any windows, so it runs on headless hosts.
+ * <p>
+ * Sweeps are defined by properties, that are read from the file of the {@code --config=<file>} argument
+ * and from {@code --<name>=<value>} arguments, which override properties of the file:
+ * <ul>
+ *     <li>{@code sweeps} - comma-separated sweep names, a single sweep "default" if not set;</li>
+ *     <li>{@code min}, {@code max}, {@code steps} - interval of array sizes, required;</li>
+ *     <li>{@code sorters}, {@code fillers} - comma-separated simple class names of sorters and names of fillers,
+ *     all if not set;</li>
+ *     <li>{@code warmup}, {@code measured} - number of warmup and measured runs of every array;</li>
+ *     <li>{@code seed}, {@code parallelism}, {@code isolation} ({@link IsolationPolicy} name);</li>
+ *     <li>{@code fork} ({@link ForkMode} name), {@code forkParallelism}, {@code forkJvmArguments}
+ *     (space-separated);</li>
+ *     <li>{@code countOperations}, {@code gcQuiescence} - true or false;</li>
+ *     <li>{@code cellTimeBudget}, {@code sweepTimeBudget} - time budgets in seconds;</li>
+ *     <li>{@code corpus}, {@code journal}, {@code recording} - files of dataset corpus, result journal
+ *     and flight recording;</li>
+ *     <li>{@code sinks} - comma-separated sinks as {@code <type>:<file>}, where type is csv, jsonl, binary
+ *     or xlsx (the Excel report of {@link ExcelSink}).</li>
+ * </ul>
+ * Every property can be set for one sweep as {@code sweep.<name>.<property>}, otherwise it is shared by all sweeps.
+ * For example, {@code --sweeps=small,large --steps=10 --sweep.small.min=10 --sweep.small.max=1000
+ * --sweep.large.min=1000 --sweep.large.max=100000 --sweep.large.sinks=csv:out/large.csv}.
+ * <p>
+ * A sweep with a journal is resumed from the journal after an interruption, and its journal is deleted
+ * after the sweep is finished without failed cells. Arrays of all sweeps are cached by one {@link DatasetCache}.
+ * <p>
+ * Exit code is 0 if all sweeps are finished without failures, {@value #EXIT_FAILURE} if a sweep or any of its cells
+ * failed, and {@value #EXIT_INVALID_CONFIGURATION} if the configuration is invalid.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.2
+ */
+public class BatchRunner {
+    static final int EXIT_FAILURE = 1;
+    static final int EXIT_INVALID_CONFIGURATION = 2;
+    private static final String CONFIG_ARGUMENT = "config";
+    private static final String DEFAULT_SWEEP = "default";
+
+    public static void main(String args[]) {
+        Properties properties;
+        try {
+            properties = parseArguments(args);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Invalid configuration: " + e.getMessage());
+            System.exit(EXIT_INVALID_CONFIGURATION);
+            return;
+        }
+        System.exit(run(properties));
+    }
+
+    /**
+     * Reads properties from the configuration file and the arguments.
+     *
+     * @param args {@code --<name>=<value>} arguments
+     * @return properties of the file, overridden by properties of the arguments
+     * @throws IOException if the configuration file cannot be read
+     * @throws IllegalArgumentException if an argument is invalid
+     */
+    static Properties parseArguments(String[] args) throws IOException {
+        Properties arguments = new Properties();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Argument " + arg + " is not --<name>=<value>");
+            }
+            arguments.setProperty(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        Properties properties = new Properties();
+        String configFile = arguments.getProperty(CONFIG_ARGUMENT);
+        if (configFile != null) {
+            try (Reader reader = Files.newBufferedReader(Paths.get(configFile), StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        }
+        properties.putAll(arguments);
+        return properties;
+    }
+
+    /**
+     * Runs all sweeps of the configuration one after another. A failed sweep does not stop following sweeps.
+     *
+     * @param properties configuration properties
+     * @return exit code of the program
+     */
+    static int run(Properties properties) {
+        String[] sweepNames = properties.getProperty("sweeps", DEFAULT_SWEEP).split(",");
+        DatasetCache datasetCache = new DatasetCache(Runtime.getRuntime().maxMemory() / 4);
+        int exitCode = 0;
+        for (String sweepName : sweepNames) {
+            Sweep sweep = new Sweep(properties, sweepName.trim());
+            System.out.println("Sweep " + sweep.name + ":");
+            long startTime = System.nanoTime();
+            try {
+                int failedCellsCount = sweep.run(datasetCache);
+                System.out.println("\nSweep " + sweep.name + " is finished in "
+                        + TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime) + " s"
+                        + (failedCellsCount > 0 ? ", failed cells: " + failedCellsCount : "") + ".");
+                if (failedCellsCount > 0) {
+                    exitCode = Math.max(exitCode, EXIT_FAILURE);
+                }
+            } catch (IllegalArgumentException | InvalidArgumentException e) {
+                System.err.println("\nSweep " + sweep.name + " has invalid configuration: " + e.getMessage());
+                exitCode = EXIT_INVALID_CONFIGURATION;
+            } catch (IOException e) {
+                System.err.println("\nSweep " + sweep.name + " failed: " + e);
+                exitCode = Math.max(exitCode, EXIT_FAILURE);
+            }
+        }
+        System.out.println("Dataset cache: " + datasetCache + ".");
+        return exitCode;
+    }
+
+    /**
+     * Properties of one sweep, which are looked up as {@code sweep.<name>.<property>} and then as {@code <property>}.
+     */
+    private static final class Sweep {
+        private final Properties properties;
+        private final String name;
+
+        Sweep(Properties properties, String name) {
+            this.properties = properties;
+            this.name = name;
+        }
+
+        String get(String property) {
+            String value = properties.getProperty("sweep." + name + "." + property);
+            return value != null ? value.trim() : properties.getProperty(property, "").trim();
+        }
+
+        boolean isSet(String property) {
+            return !get(property).isEmpty();
+        }
+
+        int getRequiredInt(String property) {
+            if (!isSet(property)) {
+                throw new IllegalArgumentException("Property " + property + " is not set");
+            }
+            return parseInt(property);
+        }
+
+        private int parseInt(String property) {
+            try {
+                return Integer.parseInt(get(property));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Property " + property + " is not a number: " + get(property));
+            }
+        }
+
+        private long parseLong(String property) {
+            try {
+                return Long.parseLong(get(property));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Property " + property + " is not a number: " + get(property));
+            }
+        }
+
+        List<String> getList(String property) {
+            List<String> values = new ArrayList<>();
+            for (String value : get(property).split(",")) {
+                if (!value.trim().isEmpty()) {
+                    values.add(value.trim());
+                }
+            }
+            return values;
+        }
+
+        /**
+         * Configures an analyzer with properties of the sweep and performs its analysis.
+         *
+         * @param datasetCache cache of arrays of all sweeps
+         * @return number of failed cells
+         * @throws IllegalArgumentException if a property is invalid
+         * @throws InvalidArgumentException if the interval or the number of runs is invalid
+         * @throws IOException if the corpus cannot be read or a sink or the journal fails
+         */
+        int run(DatasetCache datasetCache) throws InvalidArgumentException, IOException {
+            Analyzer analyzer = new Analyzer();
+            analyzer.setDatasetCache(datasetCache);
+            if (isSet("sorters")) {
+                analyzer.setSorterFilter(getList("sorters"));
+            }
+            if (isSet("fillers")) {
+                analyzer.setFillerFilter(getList("fillers"));
+            }
+            if (isSet("warmup")) {
+                analyzer.setWarmupIterations(parseInt("warmup"));
+            }
+            if (isSet("measured")) {
+                analyzer.setMeasuredIterations(parseInt("measured"));
+            }
+            if (isSet("seed")) {
+                analyzer.setSeed(parseLong("seed"));
+            }
+            if (isSet("parallelism")) {
+                analyzer.setParallelism(parseInt("parallelism"));
+            }
+            if (isSet("isolation")) {
+                analyzer.setIsolationPolicy(IsolationPolicy.valueOf(get("isolation")));
+            }
+            if (isSet("fork")) {
+                analyzer.setForkMode(ForkMode.valueOf(get("fork")));
+            }
+            if (isSet("forkParallelism")) {
+                analyzer.setForkParallelism(parseInt("forkParallelism"));
+            }
+            if (isSet("forkJvmArguments")) {
+                analyzer.setForkJvmArguments(Arrays.asList(get("forkJvmArguments").split("\\s+")));
+            }
+            analyzer.setCountOperations(Boolean.parseBoolean(get("countOperations")));
+            analyzer.setGcQuiescence(Boolean.parseBoolean(get("gcQuiescence")));
+            if (isSet("cellTimeBudget")) {
+                analyzer.setCellTimeBudget(parseLong("cellTimeBudget"), TimeUnit.SECONDS);
+            }
+            if (isSet("sweepTimeBudget")) {
+                analyzer.setSweepTimeBudget(parseLong("sweepTimeBudget"), TimeUnit.SECONDS);
+            }
+            if (isSet("recording")) {
+                analyzer.setRecordingFile(Paths.get(get("recording")));
+            }
+            for (String sink : getList("sinks")) {
+                int separator = sink.indexOf(':');
+                if (separator < 0 || separator == sink.length() - 1) {
+                    throw new IllegalArgumentException("Sink " + sink + " is not <csv|jsonl|binary|xlsx>:<file>");
+                }
+                Path file = Paths.get(sink.substring(separator + 1));
+                switch (sink.substring(0, separator)) {
+                    case "csv":
+                        analyzer.addSink(new CsvSink(file));
+                        break;
+                    case "jsonl":
+                        analyzer.addSink(new JsonLinesSink(file));
+                        break;
+                    case "binary":
+                        analyzer.addSink(new BinarySink(file));
+                        break;
+                    case "xlsx":
+                        analyzer.addSink(new ExcelSink(file));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Sink " + sink + " is not <csv|jsonl|binary|xlsx>:<file>");
+                }
+            }
+            Path journalFile = isSet("journal") ? Paths.get(get("journal")) : null;
+            if (journalFile != null) {
+                analyzer.setJournal(new ResultJournal(journalFile));
+            }
+            int minLength = getRequiredInt("min");
+            int maxLength = getRequiredInt("max");
+            int stepsCount = getRequiredInt("steps");
+            try (DatasetCorpus corpus = isSet("corpus") ? DatasetCorpus.open(Paths.get(get("corpus"))) : null) {
+                analyzer.setCorpus(corpus);
+                analyzer.startAnalysis(minLength, maxLength, stepsCount);
+            }
+            if (journalFile != null && analyzer.getFailedCellsCount() == 0) {
+                Files.deleteIfExists(journalFile);
+            }
+            return analyzer.getFailedCellsCount();
+        }
+    }
+}
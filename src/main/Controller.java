@@ -2,21 +2,28 @@ package main;
 
 import com.sun.javaws.exceptions.InvalidArgumentException;
 import main.analyzer.Analyzer;
-import main.excel.ExcelExport;
+import main.fillers.DatasetCache;
+import main.output.ExcelSink;
+import main.output.ResultJournal;
 
 import java.awt.*;
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.InputMismatchException;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A program for analysing sorting algorithms performance (time vs. array size) and exporting results to a .xlsx file
  *
  * @author Dmytro Storozhenko
- * @version 1.3
+ * @version 1.9
  */
 public class Controller {
+    private static final long CELL_TIME_BUDGET_SECONDS = 10;
+
     public static void main(String args[]) {
         System.out.print("\n\tSorting algorithms analysis on whole number arrays\n\tof sizes within a specified interval.\n" +
                 "\n- Enter the parameter values in the following order:\n" +
@@ -24,12 +31,20 @@ public class Controller {
                 "\t2. Final value of array sizes interval;\n" +
                 "\t3. Number of steps on interval.\n" +
                 "\n- Enter \"def\" for the next values: 500, 30 000, 10;\n" +
+                "\n- Enter the same values again to continue an interrupted analysis;\n" +
                 "\n- Press Enter to exit.\n" +
                 "\n");
 
+        DatasetCache datasetCache = new DatasetCache(Runtime.getRuntime().maxMemory() / 4);
+        Path journalFile = Paths.get("out/output/Sorting Analysis.journal");
         programLoop:
         while (true) {
             Analyzer analyzer = new Analyzer();
+            analyzer.setDatasetCache(datasetCache);
+            analyzer.setJournal(new ResultJournal(journalFile));
+            analyzer.setCellTimeBudget(CELL_TIME_BUDGET_SECONDS, TimeUnit.SECONDS);
+            ExcelSink excelSink = new ExcelSink();
+            analyzer.addSink(excelSink);
             while (true) {
                 int minLength, maxLength;
                 int stepsCount;
@@ -61,22 +76,31 @@ public class Controller {
                             "Final length value must be greater or equal to initial length;\n" +
                             "Number of steps must be greater than 0.\n" +
                             "Please, try again:\n");
+                } catch (IOException e) {
+                    System.out.println("I/O error. (check if file for writing 'Sorting Analysis.xlsx' is closed");
+                    System.out.println("\nEnter the parameter values:");
+                    continue programLoop;
                 }
             }
-            System.out.print("Success.\nExporting data to a .xlsx file... ");
-            ExcelExport excelExport = new ExcelExport();
-            try {
-                File excelFile = excelExport.getOutputFile(analyzer.getAnalysisResult(), analyzer.getLengthSteps());
-                System.out.print("Success.\nTrying to open the file with default system application... ");
-                Desktop desktop = Desktop.getDesktop();
+            int failedCellsCount = analyzer.getFailedCellsCount();
+            if (failedCellsCount > 0) {
+                System.out.print("Failed cells: " + failedCellsCount + ", they are shown as #N/A.\n" +
+                        "Enter the same values again to measure them.\n");
+            } else {
                 try {
-                    desktop.open(excelFile);
-                    System.out.println("Success.");
+                    Files.deleteIfExists(journalFile);
                 } catch (IOException e) {
-                    System.out.println("Failed.\nPlease, open the file in \"lab01/out/output/\" manually.");
+                    System.out.println("Journal file 'Sorting Analysis.journal' was not deleted.");
                 }
+                System.out.print("Success.\n");
+            }
+            System.out.print("Dataset cache: " + datasetCache + ".\nTrying to open the file with default system application... ");
+            Desktop desktop = Desktop.getDesktop();
+            try {
+                desktop.open(excelSink.getOutputFile());
+                System.out.println("Success.");
             } catch (IOException e) {
-                System.out.println("I/O error. (check if file for writing 'Sorting Analysis.xlsx' is closed");
+                System.out.println("Failed.\nPlease, open the file in \"lab01/out/output/\" manually.");
             }
             System.out.println("\nEnter the parameter values:");
         }
@@ -3,8 +3,14 @@ package main;
 import org.reflections.Reflections;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 
 import static org.apache.commons.lang3.reflect.MethodUtils.getMethodsListWithAnnotation;
@@ -15,7 +21,7 @@ import static org.apache.commons.lang3.reflect.MethodUtils.getMethodsListWithAnn
  * Based on methods from commons-lang3-reflect and code-reflections libraries.
  *
  * @author Dmytro Storozhenko
- * @version 1.0
+ * @version 1.1
  */
 public final class ReflectionUtils {
 
@@ -45,5 +51,35 @@ public final class ReflectionUtils {
     public static LinkedHashSet<Method> getAnnotatedMethods(Class classWithAnnotation, Class<? extends Annotation> annotation) {
         return new LinkedHashSet<>(getMethodsListWithAnnotation(classWithAnnotation, annotation));
     }
-}
 
+    /**
+     * Converts the passed static method to an implementation of the passed functional interface
+     * with {@link LambdaMetafactory}, so that the method can be called without {@link Method#invoke(Object, Object...)}
+     * and the call can be inlined by JIT compiler like a call of an ordinary lambda expression.
+     *
+     * @param staticMethod public static method, which signature is compatible with the functional interface method
+     * @param functionalInterface interface with a single abstract method
+     * @param <F> the type of the functional interface
+     * @return implementation of the functional interface, that calls the passed method
+     * @throws IllegalArgumentException if the method cannot be converted to the passed interface
+     */
+    public static <F> F getStaticMethodAsFunction(Method staticMethod, Class<F> functionalInterface) {
+        Method interfaceMethod = Arrays.stream(functionalInterface.getMethods())
+                .filter(m -> Modifier.isAbstract(m.getModifiers()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(functionalInterface + " is not a functional interface"));
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle methodHandle = lookup.unreflect(staticMethod);
+            CallSite callSite = LambdaMetafactory.metafactory(lookup,
+                    interfaceMethod.getName(),
+                    MethodType.methodType(functionalInterface),
+                    MethodType.methodType(interfaceMethod.getReturnType(), interfaceMethod.getParameterTypes()),
+                    methodHandle,
+                    methodHandle.type());
+            return functionalInterface.cast(callSite.getTarget().invoke());
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("Method " + staticMethod + " cannot be converted to " + functionalInterface, e);
+        }
+    }
+}
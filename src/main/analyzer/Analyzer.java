@@ -1,54 +1,464 @@
 package main.analyzer;
 
 import com.sun.javaws.exceptions.InvalidArgumentException;
-import main.ReflectionUtils;
+import main.fillers.ArrayFiller;
+import main.fillers.DatasetCache;
+import main.fillers.DatasetCorpus;
 import main.fillers.Fillers;
+import main.jfr.AnalysisRecording;
+import main.jfr.DatasetGenerationEvent;
+import main.jfr.ExportEvent;
+import main.jfr.SortRunEvent;
+import main.offheap.BufferSorter;
+import main.output.ResultJournal;
+import main.output.ResultSink;
+import main.registry.Registry;
+import main.sorters.InstrumentedSorter;
+import main.sorters.OperationCounter;
 import main.sorters.Sorter;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.TreeMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Class for evaluating sorting time for all implementations of {@link Sorter}.
  * <p>
  * Object of this class gets lists of all non-abstract realisations of Sorter abstract class from {@link main.sorters} and
- * all array filling methods from {@link Fillers} class on creation.
+ * all array filling methods from {@link Fillers} class on creation from {@link Registry}, which is loaded once per JVM.
  * <p>
  * Contains methods to evaluate array sizes on specified values interval, then analyze and save sorting time
  * for each pair of algorithm and array from aforementioned lists.
+ * <p>
+ * Every array is sorted {@code warmupIterations} times without measurement and then {@code measuredIterations} times
+ * with measurement, so that the result for every array is {@link TimeStatistics} of several runs.
+ * Bytes, allocated by every measured run, and garbage collections during measured runs are passed to sinks
+ * as {@link MemoryStatistics} of the cell.
+ * <p>
+ * Reflection is used only to find sorters and fillers and to create their call targets before analysis:
+ * sorters are called through {@link Sorter#doSorting(int[])} and fillers through {@link ArrayFiller} lambdas,
+ * so the measured time does not include reflective call overhead.
+ * <p>
+ * Every array is generated with its own seed, derived from the analysis seed, filler name and array size
+ * by {@link Fillers#seed(long, String, int, int)}, so that repeated analyses with the same seed sort the same arrays.
+ * Arrays can also be read from a {@link DatasetCorpus}, so that analyses on different hosts sort byte-identical arrays.
+ * <p>
+ * Measured cells can be appended to a {@link ResultJournal}, so that an interrupted analysis is resumed
+ * from the journal by the next analysis with the same parameters.
+ * <p>
+ * If a cell or sweep time budget is set, cells of every sorter and filler are measured in ascending order of lengths
+ * by one task, which predicts time of the next cell and skips it and all following cells, if the time
+ * does not fit in the budget.
+ * <p>
+ * Cells of the analysis (one sorter on one array) are independent and can be measured concurrently
+ * by a bounded pool of worker threads, see {@link #setParallelism(int)} and {@link IsolationPolicy}.
+ * Every cell uses its own {@link Sorter} object, because sorters keep the array being sorted in their fields.
+ * Cells are measured filler by filler, so that only arrays of one filler are kept in memory.
+ * Cells of {@link Sorter#isMultithreaded() multithreaded} sorters are measured after all other cells of the filler,
+ * one at a time.
+ * <p>
+ * Every measured cell is passed to all {@link ResultSink result sinks} of the analyzer as soon as it is measured,
+ * see {@link #addSink(ResultSink)}. Cells, which measurement failed with an exception, are passed to sinks
+ * with {@link TimeStatistics#FAILED} statistics after all other cells.
+ * <p>
+ * If operation counting is enabled, see {@link #setCountOperations(boolean)}, arrays of every measured cell
+ * of an {@link InstrumentedSorter} are also sorted once by its counting kernel after the measured runs.
+ * <p>
+ * Array preparation, every timed sorting run and finishing of every sink are reported as Java Flight Recorder
+ * events of {@link main.jfr}, and an analysis can be recorded as a whole, see {@link #setRecordingFile(Path)}.
+ * <p>
+ * Cells of every sorter can be measured in separate JVMs, see {@link #setForkMode(ForkMode)}, so that sorters
+ * do not share JIT profiles. Forks return measured cells to the analyzer, which passes them to its journal and sinks.
  *
  * @author Dmytro Storozhenko
- * @version 1.1
+ * @version 1.20
  */
 public class Analyzer {
-    private TreeMap<String, TreeMap<String, long[]>> analysisResult = new TreeMap<>();
+    private static final long BUFFER_POOL_BYTES = 64L * 1024 * 1024;
+    private static final int FORK_ACCEPT_POLL_MILLIS = 100;
+    private final ConcurrentSkipListMap<String, NavigableMap<String, TimeStatistics[]>> analysisResult =
+            new ConcurrentSkipListMap<>();
     private int[] lengthSteps;
-    private static LinkedHashSet<Class<? extends Sorter>> sorterClasses;
-    private static LinkedHashSet<Method> fillerMethods;
+    private int warmupIterations = 1;
+    private int measuredIterations = 5;
+    private int parallelism = 1;
+    private IsolationPolicy isolationPolicy = IsolationPolicy.ONE_CELL_PER_CORE;
+    private long seed = Fillers.DEFAULT_SEED;
+    private DatasetCache datasetCache;
+    private DatasetCorpus corpus;
+    private ResultJournal journal;
+    private List<CellResult> forkJournalCells = Collections.emptyList();
+    private long cellTimeBudget;
+    private long sweepTimeBudget;
+    private long sweepStartTime;
+    private boolean countOperations;
+    private Path recordingFile;
+    private boolean gcQuiescence;
+    private ForkMode forkMode = ForkMode.NONE;
+    private int forkParallelism = 1;
+    private List<String> forkJvmArguments = Collections.emptyList();
+    private final LongAdder resultChecksum = new LongAdder();
+    private final ThreadLocal<BufferPool> bufferPools = ThreadLocal.withInitial(() -> new BufferPool(BUFFER_POOL_BYTES));
+    private final Set<Class<? extends Sorter>> allSorterClasses;
+    private final Map<String, ArrayFiller> allFillers;
+    private Set<Class<? extends Sorter>> sorterClasses;
+    private Map<String, ArrayFiller> fillers;
+    private final List<ResultSink> sinks = new ArrayList<>();
+    private IOException sinkException;
+    private final LongAdder failedCellsCount = new LongAdder();
 
     public Analyzer() {
-        sorterClasses = ReflectionUtils.getNonAbstrSubTypesOfClass("main.sorters", Sorter.class);
-        fillerMethods = ReflectionUtils.getAnnotatedMethods(Fillers.class, Fillers.Filler.class);
+        this(Registry.getInstance().getSorterClasses(), Registry.getInstance().getFillers());
+    }
+
+    /**
+     * Creates an analyzer of the passed sorters and fillers instead of sorters and fillers of the {@link Registry}.
+     *
+     * @param sorterClasses classes of sorters
+     * @param fillers fillers by names
+     */
+    Analyzer(Set<Class<? extends Sorter>> sorterClasses, Map<String, ArrayFiller> fillers) {
+        allSorterClasses = sorterClasses;
+        allFillers = fillers;
+        this.sorterClasses = sorterClasses;
+        this.fillers = fillers;
+        String recordingFileName = System.getProperty(AnalysisRecording.FILE_PROPERTY);
+        if (recordingFileName != null) {
+            recordingFile = Paths.get(recordingFileName);
+        }
     }
 
     /**
      * Returns resulting data of the analysis.
      *
-     * @return The container of the following structure: {@code TreeMap<String F, TreeMap<String S, long[] T>>},
+     * @return The container of the following structure: {@code NavigableMap<String F, NavigableMap<String S, TimeStatistics[] T>>},
      * where:
      * <ul>
      * <li>F - {@link Fillers} method</li>
      * <li>S - sorting algorithm class</li>
-     * <li>T - sorting time for every array length</li>
+     * <li>T - sorting time statistics for every array length</li>
      * </ul>
      */
-    public TreeMap<String, TreeMap<String, long[]>> getAnalysisResult() {
+    public NavigableMap<String, NavigableMap<String, TimeStatistics[]>> getAnalysisResult() {
         return analysisResult;
     }
 
+    /**
+     * Sets number of sorting runs for every array, that are performed before measurement.
+     *
+     * @param warmupIterations number of unmeasured runs, must be greater or equal to 0
+     */
+    public void setWarmupIterations(int warmupIterations) {
+        this.warmupIterations = warmupIterations;
+    }
+
+    /**
+     * Sets number of measured sorting runs for every array, on which {@link TimeStatistics} are based.
+     *
+     * @param measuredIterations number of measured runs, must be greater than 0
+     */
+    public void setMeasuredIterations(int measuredIterations) {
+        this.measuredIterations = measuredIterations;
+    }
+
+    /**
+     * Sets maximum number of worker threads, that measure analysis cells concurrently.
+     * Actual number of workers is also limited by {@link IsolationPolicy}.
+     *
+     * @param parallelism number of workers, must be greater than 0; 1 means that all cells are measured
+     *                    one after another in the thread, that calls {@link #startAnalysis(int, int, int)}
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Sets policy, that limits number of concurrently measured cells.
+     *
+     * @param isolationPolicy isolation policy, {@link IsolationPolicy#ONE_CELL_PER_CORE} by default
+     */
+    public void setIsolationPolicy(IsolationPolicy isolationPolicy) {
+        this.isolationPolicy = isolationPolicy;
+    }
+
+    /**
+     * Sets seed, from which seeds of all generated arrays are derived.
+     *
+     * @param seed analysis seed, {@link Fillers#DEFAULT_SEED} by default
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets cache, from which arrays for analysis are taken, so that analyses with the same seed and lengths
+     * do not generate the same arrays again.
+     *
+     * @param datasetCache dataset cache, null to generate all arrays (by default)
+     */
+    public void setDatasetCache(DatasetCache datasetCache) {
+        this.datasetCache = datasetCache;
+    }
+
+    /**
+     * Sets corpus, from which arrays for analysis are read instead of generation.
+     * The corpus must contain arrays of all fillers and lengths of the analysis, generated with the analysis seed,
+     * see {@link DatasetCorpus#write(java.nio.file.Path, Map, int[], long)}.
+     *
+     * @param corpus opened dataset corpus, null to generate arrays (by default)
+     */
+    public void setCorpus(DatasetCorpus corpus) {
+        this.corpus = corpus;
+    }
+
+    /**
+     * Sets maximum time of one cell, including warmup runs. Cells of a sorter, which time for the next length
+     * is predicted to be greater than the budget, are skipped, see {@link TimeStatistics#SKIPPED}.
+     *
+     * @param budget time budget, 0 for no limit (by default)
+     * @param unit unit of the budget
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public void setCellTimeBudget(long budget, TimeUnit unit) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Time budget must be greater or equal to 0");
+        }
+        this.cellTimeBudget = unit.toNanos(budget);
+    }
+
+    /**
+     * Sets maximum time of measurement of all cells of an analysis. Cells, which time is predicted
+     * to be greater than the time, left from the budget, are skipped, see {@link TimeStatistics#SKIPPED}.
+     *
+     * @param budget time budget, 0 for no limit (by default)
+     * @param unit unit of the budget
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public void setSweepTimeBudget(long budget, TimeUnit unit) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Time budget must be greater or equal to 0");
+        }
+        this.sweepTimeBudget = unit.toNanos(budget);
+    }
+
+    /**
+     * Sets whether operations of sorters, that implement {@link InstrumentedSorter}, are counted.
+     * Operations are counted by a separate unmeasured sorting, so counting does not affect measured time.
+     *
+     * @param countOperations true to pass {@link CellResult#getOperationCounts() operation counts} to sinks,
+     *                        false by default
+     */
+    public void setCountOperations(boolean countOperations) {
+        this.countOperations = countOperations;
+    }
+
+    /**
+     * Sets whether garbage is collected before measured runs of every cell, see {@link HeapQuiescence},
+     * so that collection of garbage of previous cells does not happen during measured runs.
+     * <p>
+     * Collections stop all threads, so with several worker threads they also pause cells of other workers.
+     *
+     * @param gcQuiescence true to collect garbage before measured runs, false by default
+     */
+    public void setGcQuiescence(boolean gcQuiescence) {
+        this.gcQuiescence = gcQuiescence;
+    }
+
+    /**
+     * Returns checksum of results of all sorting runs of all analyses of this analyzer.
+     * Results of all runs are consumed by the checksum, so that the JIT compiler cannot eliminate sorting.
+     * Analyses with the same parameters and arrays have the same checksum.
+     *
+     * @return sum of order-sensitive checksums of all sorted arrays
+     */
+    public long getResultChecksum() {
+        return resultChecksum.sum();
+    }
+
+    /**
+     * Sets file, to which a flight recording of every analysis is written, see {@link AnalysisRecording}.
+     * The recording contains events of array preparation, of every timed sorting run and of result export,
+     * so that an outlier can be matched with JIT compilations, safepoints and garbage collections.
+     *
+     * @param recordingFile recording file, which is replaced by every analysis, or null to record nothing;
+     *                      by default value of the {@value AnalysisRecording#FILE_PROPERTY} system property
+     */
+    public void setRecordingFile(Path recordingFile) {
+        this.recordingFile = recordingFile;
+    }
+
+    /**
+     * Sets whether cells are measured in separate JVMs, which are started for every sorter or for every pair
+     * of filler and sorter by the command {@code java <fork JVM arguments> -cp <class path> }{@link ForkedAnalysis}.
+     * <p>
+     * Forked JVMs generate arrays with the analysis seed or read them from the file of the corpus, so arrays
+     * of the {@link #setDatasetCache(DatasetCache) dataset cache} are not used, and are not recorded
+     * by the {@link #setRecordingFile(Path) flight recording} of the analysis.
+     * Forks of {@link Sorter#isMultithreaded() multithreaded} sorters run after all other forks, one at a time.
+     *
+     * @param forkMode fork mode, {@link ForkMode#NONE} by default
+     */
+    public void setForkMode(ForkMode forkMode) {
+        this.forkMode = forkMode;
+    }
+
+    /**
+     * Sets maximum number of forked JVMs, that run at the same time. Every forked JVM measures its cells
+     * one after another.
+     *
+     * @param forkParallelism number of forks, must be greater than 0, 1 by default
+     */
+    public void setForkParallelism(int forkParallelism) {
+        this.forkParallelism = forkParallelism;
+    }
+
+    /**
+     * Sets arguments of forked JVMs, which are passed before the main class, for example heap size or JIT options.
+     *
+     * @param forkJvmArguments JVM arguments, none by default
+     */
+    public void setForkJvmArguments(List<String> forkJvmArguments) {
+        this.forkJvmArguments = new ArrayList<>(forkJvmArguments);
+    }
+
+    /**
+     * Limits sorters of following analyses to the passed ones.
+     *
+     * @param sorterNames simple class names of sorters, or null to analyze all sorters (by default)
+     * @throws IllegalArgumentException if a sorter is not found
+     */
+    public void setSorterFilter(Collection<String> sorterNames) {
+        if (sorterNames == null) {
+            sorterClasses = allSorterClasses;
+            return;
+        }
+        Set<Class<? extends Sorter>> filteredClasses = new LinkedHashSet<>();
+        for (Class<? extends Sorter> sorterClass : allSorterClasses) {
+            if (sorterNames.contains(sorterClass.getSimpleName())) {
+                filteredClasses.add(sorterClass);
+            }
+        }
+        if (filteredClasses.size() != new HashSet<>(sorterNames).size()) {
+            throw new IllegalArgumentException("One or more sorters are not found: " + sorterNames);
+        }
+        sorterClasses = filteredClasses;
+    }
+
+    /**
+     * Limits fillers of following analyses to the passed ones.
+     *
+     * @param fillerNames names of filler methods, or null to analyze all fillers (by default)
+     * @throws IllegalArgumentException if a filler is not found
+     */
+    public void setFillerFilter(Collection<String> fillerNames) {
+        if (fillerNames == null) {
+            fillers = allFillers;
+            return;
+        }
+        Map<String, ArrayFiller> filteredFillers = new LinkedHashMap<>();
+        for (Map.Entry<String, ArrayFiller> filler : allFillers.entrySet()) {
+            if (fillerNames.contains(filler.getKey())) {
+                filteredFillers.put(filler.getKey(), filler.getValue());
+            }
+        }
+        if (filteredFillers.size() != new HashSet<>(fillerNames).size()) {
+            throw new IllegalArgumentException("One or more fillers are not found: " + fillerNames);
+        }
+        fillers = filteredFillers;
+    }
+
+    /**
+     * Sets journal, to which every measured cell is appended. If the journal contains cells of an analysis
+     * with the same parameters, see {@link #getParametersFingerprint()}, they are not measured again
+     * and are passed to sinks from the journal.
+     *
+     * @param journal result journal, null to measure all cells (by default)
+     */
+    public void setJournal(ResultJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Sets cells, that are in the journal of the analyzer, that started this analyzer in a forked JVM.
+     * They are not measured again and are not passed to sinks, because the analyzer of the journal has them.
+     *
+     * @param forkJournalCells cells of the journal, that belong to the fork
+     */
+    void setForkJournalCells(List<CellResult> forkJournalCells) {
+        this.forkJournalCells = forkJournalCells;
+    }
+
+    /**
+     * Returns description of all analysis parameters, that affect results, to find out if a journal
+     * was written by the same analysis.
+     *
+     * @return parameters fingerprint
+     */
+    public String getParametersFingerprint() {
+        StringBuilder fingerprint = new StringBuilder()
+                .append("lengths=").append(Arrays.toString(lengthSteps))
+                .append(";warmup=").append(warmupIterations)
+                .append(";measured=").append(measuredIterations)
+                .append(";seed=").append(seed)
+                .append(";operations=").append(countOperations)
+                .append(";fork=").append(forkMode)
+                .append(";fillers=").append(fillers.keySet())
+                .append(";sorters=");
+        for (Class<? extends Sorter> sorterClass : sorterClasses) {
+            fingerprint.append(sorterClass.getName()).append(',');
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Returns number of cells of the last analysis, which measurement failed with an exception.
+     * Failed cells have {@link TimeStatistics#FAILED} statistics, are passed to sinks, but not to the journal,
+     * and their exceptions are printed to the standard error stream.
+     *
+     * @return number of failed cells, 0 if all cells were measured
+     */
+    public int getFailedCellsCount() {
+        return failedCellsCount.intValue();
+    }
+
+    /**
+     * Adds a sink, to which results of all following analyses are streamed.
+     *
+     * @param sink result sink
+     */
+    public void addSink(ResultSink sink) {
+        sinks.add(sink);
+    }
+
     /**
      * Returns array size values, calculated with {@link Analyzer#calcStepsOnInterval(int, int, int)}.
      *
@@ -64,32 +474,689 @@ public class Analyzer {
      * Based on input data, calculates array sizes for analysis, and
      * evaluates every {@link main.sorters} algorithm's sorting time for
      * arrays, filled with every {@link main.fillers.Fillers} method.
+     * <p>
+     * If a sink fails, the analysis is continued and the results are still passed to other sinks.
+     *
+     * @throws InvalidArgumentException if interval arguments are invalid, see {@link #calcStepsOnInterval(int, int, int)},
+     *                                  or if number of warmup or measured iterations or parallelism is invalid
+     * @throws IOException if the corpus does not contain an array of the analysis or cannot be read,
+     *                     if the flight recording cannot be started,
+     *                     or first exception, thrown by a {@link ResultSink}, after the analysis is finished
+     */
+    public void startAnalysis(int minLength, int maxLength, int stepsCount) throws InvalidArgumentException, IOException {
+        startAnalysis(calcStepsOnInterval(minLength, maxLength, stepsCount));
+    }
+
+    /**
+     * Performs analysis of the passed array sizes, is used by {@link ForkedAnalysis} to analyze the same sizes
+     * as the analyzer, that started the fork.
+     *
+     * @param lengthSteps array sizes in ascending order
+     * @throws InvalidArgumentException if number of warmup or measured iterations or parallelism is invalid
+     * @throws IOException if the corpus does not contain an array of the analysis or cannot be read,
+     *                     if the flight recording cannot be started,
+     *                     or first exception, thrown by a {@link ResultSink}, after the analysis is finished
      */
-    public void startAnalysis(int minLength, int maxLength, int stepsCount) throws InvalidArgumentException {
-        calcStepsOnInterval(minLength, maxLength, stepsCount);
+    void startAnalysis(int[] lengthSteps) throws InvalidArgumentException, IOException {
+        if (warmupIterations < 0 || measuredIterations < 1 || parallelism < 1 || forkParallelism < 1) {
+            String[] s = {"Number of warmup or measured iterations or parallelism is invalid"};
+            throw new InvalidArgumentException(s);
+        }
+        this.lengthSteps = lengthSteps;
+        if (corpus != null) {
+            checkCorpus();
+        }
+        Map<String, CellResult> journalCells = new HashMap<>();
+        if (journal != null) {
+            for (CellResult cellResult : journal.open(getParametersFingerprint(), lengthSteps)) {
+                journalCells.put(getCellKey(cellResult.getFillerName(), cellResult.getSorterName(),
+                        cellResult.getLengthIndex()), cellResult);
+            }
+        }
+        for (CellResult cellResult : forkJournalCells) {
+            journalCells.put(getCellKey(cellResult.getFillerName(), cellResult.getSorterName(),
+                    cellResult.getLengthIndex()), cellResult);
+        }
+        int workersCount = forkMode == ForkMode.NONE ? isolationPolicy.getWorkersCount(parallelism) : forkParallelism;
+        ExecutorService workers = workersCount > 1 ? Executors.newFixedThreadPool(workersCount) : null;
+        AnalysisRecording recording = null;
+        try {
+            recording = recordingFile == null ? null : AnalysisRecording.start(recordingFile);
+            measureCells(journalCells, workers);
+        } finally {
+            if (recording != null) {
+                recording.close();
+            }
+            if (workers != null) {
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Measures all cells, that are not in the journal, and passes results of all cells to sinks.
+     * Arrays of a filler are prepared right before its cells are run and are released after them.
+     * The same worker threads, and so their {@link BufferPool buffer pools}, are used for all fillers.
+     *
+     * @param journalCells cells from the journal by their keys
+     * @param workers worker threads, that measure cells or run forks, null to run them in the current thread
+     * @throws IOException if the corpus cannot be read, or first exception, thrown by a {@link ResultSink}
+     */
+    private void measureCells(Map<String, CellResult> journalCells, ExecutorService workers) throws IOException {
+        sinkException = null;
+        failedCellsCount.reset();
+        for (ResultSink sink : sinks) {
+            sink.start(lengthSteps);
+        }
         System.out.print("\nAnalysis is in progress... ");
-        for (Method arrayGenerator : fillerMethods) {
-            TreeMap<String, long[]> currFillerSortingTimes = new TreeMap<>();
-            try {
-                int[][] arraysForTesting = new int[lengthSteps.length][];
+        sweepStartTime = System.nanoTime();
+        List<Callable<Void>> cells = new ArrayList<>();
+        List<Callable<Void>> exclusiveCells = new ArrayList<>();
+        for (String fillerName : fillers.keySet()) {
+            ArrayFiller arrayGenerator = fillers.get(fillerName);
+            NavigableMap<String, TimeStatistics[]> currFillerSortingTimes = new ConcurrentSkipListMap<>();
+            int[][] arraysForTesting = new int[lengthSteps.length][];
+            for (int i = 0; i < lengthSteps.length; i++) {
+                if (forkMode != ForkMode.NONE || !isMeasured(journalCells, fillerName, i)) {
+                    continue;
+                }
+                long arraySeed = Fillers.seed(seed, fillerName, lengthSteps[i], 0);
+                DatasetGenerationEvent event = new DatasetGenerationEvent();
+                event.begin();
+                if (corpus != null) {
+                    arraysForTesting[i] = corpus.load(fillerName, arraySeed, new int[lengthSteps[i]]);
+                    event.source = DatasetGenerationEvent.SOURCE_CORPUS;
+                } else if (datasetCache != null) {
+                    arraysForTesting[i] = datasetCache.get(fillerName, lengthSteps[i], arraySeed, arrayGenerator);
+                    event.source = DatasetGenerationEvent.SOURCE_CACHE;
+                } else {
+                    arraysForTesting[i] = arrayGenerator.fill(new int[lengthSteps[i]], arraySeed);
+                    event.source = DatasetGenerationEvent.SOURCE_FILLER;
+                }
+                event.end();
+                if (event.shouldCommit()) {
+                    event.filler = fillerName;
+                    event.length = lengthSteps[i];
+                    event.seed = arraySeed;
+                    event.commit();
+                }
+            }
+            for (Class<? extends Sorter> sorterClass : sorterClasses) {
+                TimeStatistics[] currSorterSortingTimes = new TimeStatistics[lengthSteps.length];
+                List<Callable<Void>> sorterCells = isMultithreaded(sorterClass) ? exclusiveCells : cells;
                 for (int i = 0; i < lengthSteps.length; i++) {
-                    arraysForTesting[i] = (int[]) arrayGenerator.invoke(null, lengthSteps[i]);
+                    CellResult journalCell = journalCells.get(getCellKey(fillerName, sorterClass.getSimpleName(), i));
+                    if (journalCell != null) {
+                        currSorterSortingTimes[i] = journalCell.getTimeStatistics();
+                        if (journal != null) {
+                            publish(journalCell, false);
+                        }
+                    }
                 }
-                for (Class<? extends Sorter> sorterClass : sorterClasses) {
-                    Object sorterObject = sorterClass.newInstance();
-                    Method sortingMethod = sorterClass.getMethod("doSorting", int[].class);
-                    long[] currSorterSortingTimes = new long[lengthSteps.length];
+                if (forkMode != ForkMode.NONE) {
+                    if (forkMode == ForkMode.PER_FILLER_AND_SORTER
+                            && hasMissingCells(journalCells, fillerName, sorterClass)) {
+                        List<String> fillerNames = Collections.singletonList(fillerName);
+                        sorterCells.add(() -> {
+                            runFork(fillerNames, sorterClass, journalCells);
+                            return null;
+                        });
+                    }
+                } else if (cellTimeBudget > 0 || sweepTimeBudget > 0) {
+                    sorterCells.add(() -> {
+                        measureRow(fillerName, sorterClass, arraysForTesting, currSorterSortingTimes);
+                        return null;
+                    });
+                } else {
                     for (int i = 0; i < lengthSteps.length; i++) {
-                        long start = System.nanoTime();
-                        sortingMethod.invoke(sorterObject, (Object) Arrays.copyOf(arraysForTesting[i], arraysForTesting[i].length));
-                        long finish = System.nanoTime();
-                        currSorterSortingTimes[i] = (finish - start);
+                        if (currSorterSortingTimes[i] != null) {
+                            continue;
+                        }
+                        int lengthIndex = i;
+                        sorterCells.add(() -> {
+                            CellResult cellResult = measureCell(fillerName, sorterClass, lengthIndex,
+                                    arraysForTesting[lengthIndex]);
+                            currSorterSortingTimes[lengthIndex] = cellResult.getTimeStatistics();
+                            publish(cellResult, true);
+                            return null;
+                        });
                     }
-                    currFillerSortingTimes.put(sorterClass.getSimpleName(), currSorterSortingTimes);
                 }
-                analysisResult.put(arrayGenerator.getName(), currFillerSortingTimes);
-            } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
-                e.printStackTrace();
+                currFillerSortingTimes.put(sorterClass.getSimpleName(), currSorterSortingTimes);
+            }
+            analysisResult.put(fillerName, currFillerSortingTimes);
+            if (forkMode == ForkMode.NONE) {
+                runCells(cells, workers);
+                runCells(exclusiveCells, null);
+                cells.clear();
+                exclusiveCells.clear();
+            }
+        }
+        if (forkMode == ForkMode.PER_SORTER) {
+            for (Class<? extends Sorter> sorterClass : sorterClasses) {
+                List<String> fillerNames = new ArrayList<>();
+                for (String fillerName : fillers.keySet()) {
+                    if (hasMissingCells(journalCells, fillerName, sorterClass)) {
+                        fillerNames.add(fillerName);
+                    }
+                }
+                if (!fillerNames.isEmpty()) {
+                    (isMultithreaded(sorterClass) ? exclusiveCells : cells).add(() -> {
+                        runFork(fillerNames, sorterClass, journalCells);
+                        return null;
+                    });
+                }
+            }
+        }
+        runCells(cells, workers);
+        runCells(exclusiveCells, null);
+        publishFailedCells();
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                if (sinkException == null) {
+                    sinkException = e;
+                }
+            }
+        }
+        for (ResultSink sink : sinks) {
+            ExportEvent event = new ExportEvent();
+            event.begin();
+            try {
+                sink.finish();
+            } catch (IOException e) {
+                if (sinkException == null) {
+                    sinkException = e;
+                }
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.sink = sink.getClass().getSimpleName();
+                event.lengthsCount = lengthSteps.length;
+                event.commit();
+            }
+        }
+        if (sinkException != null) {
+            throw sinkException;
+        }
+    }
+
+    /**
+     * Checks, that the corpus contains arrays of all fillers and lengths of the analysis.
+     *
+     * @throws IOException if an array is missing
+     */
+    private void checkCorpus() throws IOException {
+        for (String fillerName : fillers.keySet()) {
+            for (int length : lengthSteps) {
+                if (!corpus.contains(fillerName, length, Fillers.seed(seed, fillerName, length, 0))) {
+                    throw new IOException("Corpus does not contain array " + fillerName + " of length " + length);
+                }
+            }
+        }
+    }
+
+    private static String getCellKey(String fillerName, String sorterName, int lengthIndex) {
+        return fillerName + '#' + sorterName + '#' + lengthIndex;
+    }
+
+    /**
+     * Checks if at least one cell of the passed filler and length must be measured.
+     *
+     * @param journalCells cells from the journal by their keys
+     * @param fillerName name of the filler
+     * @param lengthIndex index of the length
+     * @return true if a cell is not in the journal
+     */
+    private boolean isMeasured(Map<String, CellResult> journalCells, String fillerName, int lengthIndex) {
+        for (Class<? extends Sorter> sorterClass : sorterClasses) {
+            if (!journalCells.containsKey(getCellKey(fillerName, sorterClass.getSimpleName(), lengthIndex))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if at least one cell of the passed filler and sorter must be measured.
+     *
+     * @param journalCells cells from the journal by their keys
+     * @param fillerName name of the filler
+     * @param sorterClass class of the sorter
+     * @return true if a cell is not in the journal
+     */
+    private boolean hasMissingCells(Map<String, CellResult> journalCells, String fillerName,
+                                    Class<? extends Sorter> sorterClass) {
+        for (int i = 0; i < lengthSteps.length; i++) {
+            if (!journalCells.containsKey(getCellKey(fillerName, sorterClass.getSimpleName(), i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Measures cells of the passed fillers and sorter, that are not in the journal, in a new JVM,
+     * see {@link ForkedAnalysis}, and passes them to the analysis result and sinks as soon as the fork returns them.
+     * Standard error stream of the fork is passed to the standard error stream of this JVM.
+     * <p>
+     * If the fork cannot be started, its results cannot be read, or it exits with a non-zero code,
+     * the error is printed and all cells of the fork, that were not returned, are passed as failed cells.
+     *
+     * @param fillerNames names of fillers of the fork
+     * @param sorterClass class of the sorter of the fork
+     * @param journalCells cells from the journal by their keys
+     * @throws InterruptedException if the current thread is interrupted while waiting for the fork
+     */
+    private void runFork(List<String> fillerNames, Class<? extends Sorter> sorterClass,
+                         Map<String, CellResult> journalCells) throws InterruptedException {
+        try {
+            startFork(fillerNames, sorterClass, journalCells);
+        } catch (IOException e) {
+            e.printStackTrace();
+            for (String fillerName : fillerNames) {
+                publishFailedCells(fillerName, sorterClass.getSimpleName(),
+                        analysisResult.get(fillerName).get(sorterClass.getSimpleName()));
+            }
+        }
+    }
+
+    /**
+     * Starts the fork of {@link #runFork(List, Class, Map)}, sends cells of the fork, that are in the journal,
+     * so that the fork measures only missing cells, and passes cells, returned by the fork.
+     * Cells are exchanged through a loopback socket, standard output and error streams of the fork are passed
+     * to the streams of this JVM.
+     *
+     * @throws IOException if the fork cannot be started, its results cannot be read, or it exits with a non-zero code
+     * @throws InterruptedException if the current thread is interrupted while waiting for the fork
+     */
+    private void startFork(List<String> fillerNames, Class<? extends Sorter> sorterClass,
+                           Map<String, CellResult> journalCells) throws IOException, InterruptedException {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(forkJvmArguments);
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(ForkedAnalysis.class.getName());
+            command.addAll(getForkArguments(fillerNames, sorterClass));
+            command.add("--port=" + server.getLocalPort());
+            Process process = new ProcessBuilder(command).inheritIO().start();
+            try {
+                try (Socket socket = acceptFork(server, process);
+                     DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+                    ForkedAnalysis.FrameSink journalFrames =
+                            new ForkedAnalysis.FrameSink(new BufferedOutputStream(socket.getOutputStream()));
+                    for (String fillerName : fillerNames) {
+                        for (int i = 0; i < lengthSteps.length; i++) {
+                            CellResult journalCell = journalCells.get(getCellKey(fillerName,
+                                    sorterClass.getSimpleName(), i));
+                            if (journalCell != null) {
+                                journalFrames.accept(journalCell);
+                            }
+                        }
+                    }
+                    journalFrames.finish();
+                    socket.shutdownOutput();
+                    CellResult cellResult;
+                    while ((cellResult = ForkedAnalysis.readFrame(input)) != null) {
+                        if (journalCells.containsKey(getCellKey(cellResult.getFillerName(),
+                                cellResult.getSorterName(), cellResult.getLengthIndex()))) {
+                            continue;
+                        }
+                        analysisResult.get(cellResult.getFillerName()).get(cellResult.getSorterName())
+                                [cellResult.getLengthIndex()] = cellResult.getTimeStatistics();
+                        publish(cellResult, !cellResult.getTimeStatistics().isSkipped()
+                                && !cellResult.getTimeStatistics().isFailed());
+                    }
+                }
+                int exitCode = process.waitFor();
+                if (exitCode != 0) {
+                    throw new IOException("Fork of " + sorterClass.getSimpleName() + " on " + fillerNames
+                            + " exited with code " + exitCode);
+                }
+            } finally {
+                process.destroy();
+            }
+        }
+    }
+
+    /**
+     * Waits for connection of the fork to the server socket.
+     *
+     * @param server server socket, which port is passed to the fork
+     * @param process process of the fork
+     * @return socket of the fork
+     * @throws IOException if the fork exits before connection or the connection cannot be accepted
+     */
+    private static Socket acceptFork(ServerSocket server, Process process) throws IOException {
+        server.setSoTimeout(FORK_ACCEPT_POLL_MILLIS);
+        while (true) {
+            boolean alive = process.isAlive();
+            try {
+                return server.accept();
+            } catch (SocketTimeoutException e) {
+                if (!alive) {
+                    throw new IOException("Fork exited with code " + process.exitValue() + " before connection");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns arguments of {@link ForkedAnalysis}, that measures cells of the passed fillers and sorter
+     * with parameters of this analysis. The fork gets the time, left from the sweep time budget.
+     *
+     * @param fillerNames names of fillers of the fork
+     * @param sorterClass class of the sorter of the fork
+     * @return arguments of the fork main class
+     */
+    private List<String> getForkArguments(List<String> fillerNames, Class<? extends Sorter> sorterClass) {
+        StringJoiner lengths = new StringJoiner(",");
+        for (int length : lengthSteps) {
+            lengths.add(String.valueOf(length));
+        }
+        long sweepTimeLeft = sweepTimeBudget > 0
+                ? Math.max(1, sweepStartTime + sweepTimeBudget - System.nanoTime()) : 0;
+        List<String> arguments = new ArrayList<>();
+        arguments.add("--lengths=" + lengths);
+        arguments.add("--warmup=" + warmupIterations);
+        arguments.add("--measured=" + measuredIterations);
+        arguments.add("--seed=" + seed);
+        arguments.add("--fillers=" + String.join(",", fillerNames));
+        arguments.add("--sorters=" + sorterClass.getSimpleName());
+        arguments.add("--countOperations=" + countOperations);
+        arguments.add("--gcQuiescence=" + gcQuiescence);
+        arguments.add("--cellTimeBudget=" + cellTimeBudget);
+        arguments.add("--sweepTimeBudget=" + sweepTimeLeft);
+        if (corpus != null) {
+            arguments.add("--corpus=" + corpus.getFile().toAbsolutePath());
+        }
+        return arguments;
+    }
+
+    /**
+     * Sets {@link TimeStatistics#FAILED} statistics to all cells of the analysis result, that were not set
+     * because their measurement failed, and passes them to sinks, so that sinks and exports get all cells.
+     */
+    private void publishFailedCells() {
+        for (String fillerName : fillers.keySet()) {
+            for (Map.Entry<String, TimeStatistics[]> sorter : analysisResult.get(fillerName).entrySet()) {
+                publishFailedCells(fillerName, sorter.getKey(), sorter.getValue());
+            }
+        }
+    }
+
+    /**
+     * Sets {@link TimeStatistics#FAILED} statistics to all unset cells of one filler and sorter
+     * and passes them to sinks.
+     *
+     * @param fillerName name of the filler
+     * @param sorterName simple class name of the sorter
+     * @param sortingTimes statistics of the cells of the filler and sorter
+     */
+    private void publishFailedCells(String fillerName, String sorterName, TimeStatistics[] sortingTimes) {
+        for (int i = 0; i < sortingTimes.length; i++) {
+            if (sortingTimes[i] == null) {
+                sortingTimes[i] = TimeStatistics.FAILED;
+                publish(new CellResult(fillerName, sorterName, i, lengthSteps[i], TimeStatistics.FAILED), false);
+            }
+        }
+    }
+
+    /**
+     * Passes the result of a cell to all sinks and, if the cell was measured, appends it to the journal.
+     * Sinks are called by one thread at a time.
+     *
+     * @param cellResult result of the cell
+     * @param measured false if the cell was read from the journal, skipped or failed
+     */
+    private void publish(CellResult cellResult, boolean measured) {
+        if (cellResult.getTimeStatistics().isFailed()) {
+            failedCellsCount.increment();
+        }
+        synchronized (sinks) {
+            if (measured && journal != null) {
+                try {
+                    journal.append(cellResult);
+                } catch (IOException e) {
+                    if (sinkException == null) {
+                        sinkException = e;
+                    }
+                }
+            }
+            for (ResultSink sink : sinks) {
+                try {
+                    sink.accept(cellResult);
+                } catch (IOException e) {
+                    if (sinkException == null) {
+                        sinkException = e;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the passed sorter uses several threads, so that its cells must not be measured concurrently
+     * with other cells.
+     *
+     * @param sorterClass class of the sorter
+     * @return value of {@link Sorter#isMultithreaded()}, or false if the sorter object cannot be created
+     */
+    private static boolean isMultithreaded(Class<? extends Sorter> sorterClass) {
+        try {
+            return sorterClass.newInstance().isMultithreaded();
+        } catch (InstantiationException | IllegalAccessException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Measures sorting time and memory usage of the passed array with a new object of the passed sorter class.
+     * <p>
+     * The array is copied by {@link System#arraycopy} before every run to an array from the {@link BufferPool}
+     * of the current thread, so that runs sort already touched memory instead of freshly allocated copies.
+     * {@link BufferSorter} implementations sort a direct buffer from the same pool, that is filled with the array
+     * before every run, so that the measured time does not include copying between the heap and native memory.
+     * Result of every run is consumed by {@link #getResultChecksum() result checksum},
+     * so that the JIT compiler cannot eliminate sorting, which result is not used.
+     * <p>
+     * Allocated bytes and garbage collections are sampled by {@link MemorySampler} right outside the timed window
+     * of every run.
+     *
+     * @param fillerName name of the filler
+     * @param sorterClass class of the sorter
+     * @param lengthIndex index of the array length
+     * @param arrayForTesting array to be sorted, which is copied before every run and stays unchanged
+     * @return cell with sorting time and memory statistics of measured runs and operation counts
+     * @throws ReflectiveOperationException if the sorter object cannot be created
+     */
+    private CellResult measureCell(String fillerName, Class<? extends Sorter> sorterClass, int lengthIndex,
+                                   int[] arrayForTesting) throws ReflectiveOperationException {
+        Sorter sorter = sorterClass.newInstance();
+        long[] samples = new long[measuredIterations];
+        MemorySampler memorySampler = new MemorySampler();
+        if (sorter instanceof BufferSorter) {
+            BufferSorter bufferSorter = (BufferSorter) sorter;
+            IntBuffer buffer = bufferPools.get().getDirect(arrayForTesting.length);
+            for (int k = -warmupIterations; k < measuredIterations; k++) {
+                buffer.clear();
+                buffer.put(arrayForTesting).flip();
+                if (k == 0 && gcQuiescence) {
+                    HeapQuiescence.await();
+                }
+                SortRunEvent event = new SortRunEvent();
+                memorySampler.beforeRun();
+                event.begin();
+                long start = System.nanoTime();
+                bufferSorter.sort(buffer);
+                long finish = System.nanoTime();
+                event.end();
+                memorySampler.afterRun(k >= 0);
+                resultChecksum.add(checksum(buffer));
+                commit(event, fillerName, sorterClass, arrayForTesting.length, k);
+                if (k >= 0) {
+                    samples[k] = (finish - start);
+                }
+            }
+        } else {
+            int[] array = bufferPools.get().get(arrayForTesting.length);
+            for (int k = -warmupIterations; k < measuredIterations; k++) {
+                System.arraycopy(arrayForTesting, 0, array, 0, arrayForTesting.length);
+                if (k == 0 && gcQuiescence) {
+                    HeapQuiescence.await();
+                }
+                SortRunEvent event = new SortRunEvent();
+                memorySampler.beforeRun();
+                event.begin();
+                long start = System.nanoTime();
+                int[] result = sorter.doSorting(array);
+                long finish = System.nanoTime();
+                event.end();
+                memorySampler.afterRun(k >= 0);
+                resultChecksum.add(checksum(result));
+                commit(event, fillerName, sorterClass, arrayForTesting.length, k);
+                if (k >= 0) {
+                    samples[k] = (finish - start);
+                }
+            }
+        }
+        return new CellResult(fillerName, sorterClass.getSimpleName(), lengthIndex, lengthSteps[lengthIndex],
+                TimeStatistics.of(samples), memorySampler.getStatistics(measuredIterations),
+                countOperations(sorterClass, arrayForTesting));
+    }
+
+    /**
+     * Calculates order-sensitive checksum of the sorted array.
+     */
+    private static long checksum(int[] sortedArray) {
+        long checksum = sortedArray.length;
+        for (int value : sortedArray) {
+            checksum = 31 * checksum + value;
+        }
+        return checksum;
+    }
+
+    /**
+     * Calculates order-sensitive checksum of the sorted values of the buffer from its position to its limit.
+     */
+    private static long checksum(IntBuffer sortedBuffer) {
+        long checksum = sortedBuffer.remaining();
+        for (int i = sortedBuffer.position(); i < sortedBuffer.limit(); i++) {
+            checksum = 31 * checksum + sortedBuffer.get(i);
+        }
+        return checksum;
+    }
+
+    private static void commit(SortRunEvent event, String fillerName, Class<? extends Sorter> sorterClass, int length,
+                               int repetition) {
+        if (event.shouldCommit()) {
+            event.filler = fillerName;
+            event.sorter = sorterClass.getSimpleName();
+            event.length = length;
+            event.repetition = repetition;
+            event.commit();
+        }
+    }
+
+    /**
+     * Counts operations of sorting of the passed array by the counting kernel of a new object of the passed sorter class.
+     *
+     * @param sorterClass class of the sorter
+     * @param arrayForTesting array to be sorted, which is copied and stays unchanged
+     * @return operation counts, or null if counting is disabled or the sorter is not an {@link InstrumentedSorter}
+     * @throws ReflectiveOperationException if the sorter object cannot be created
+     */
+    private OperationCounter countOperations(Class<? extends Sorter> sorterClass, int[] arrayForTesting)
+            throws ReflectiveOperationException {
+        if (!countOperations || !InstrumentedSorter.class.isAssignableFrom(sorterClass)) {
+            return null;
+        }
+        OperationCounter counter = new OperationCounter();
+        ((InstrumentedSorter) sorterClass.newInstance())
+                .doCountedSorting(Arrays.copyOf(arrayForTesting, arrayForTesting.length), counter);
+        return counter;
+    }
+
+    /**
+     * Measures cells of one sorter and filler in ascending order of lengths, while predicted cell time
+     * fits in the time budgets. Cells of all following lengths are skipped after the first skipped cell.
+     * <p>
+     * Time of the next cell is predicted by {@link PowerLawPredictor} from medians of all previous cells
+     * of the row, including cells from the journal.
+     *
+     * @param fillerName name of the filler
+     * @param sorterClass class of the sorter
+     * @param arraysForTesting arrays of all lengths
+     * @param sortingTimes statistics of the row, cells from the journal are already set
+     * @throws ReflectiveOperationException if the sorter object cannot be created
+     */
+    private void measureRow(String fillerName, Class<? extends Sorter> sorterClass, int[][] arraysForTesting,
+                            TimeStatistics[] sortingTimes) throws ReflectiveOperationException {
+        int[] measuredLengths = new int[lengthSteps.length];
+        long[] measuredTimes = new long[lengthSteps.length];
+        int measuredCount = 0;
+        boolean skipped = false;
+        for (int i = 0; i < lengthSteps.length; i++) {
+            if (sortingTimes[i] == null) {
+                if (!skipped) {
+                    double predictedTime = (warmupIterations + measuredIterations)
+                            * PowerLawPredictor.predict(measuredLengths, measuredTimes, measuredCount, lengthSteps[i]);
+                    skipped = (cellTimeBudget > 0 && predictedTime > cellTimeBudget) || (sweepTimeBudget > 0
+                            && predictedTime > sweepStartTime + sweepTimeBudget - System.nanoTime());
+                }
+                CellResult cellResult = skipped
+                        ? new CellResult(fillerName, sorterClass.getSimpleName(), i, lengthSteps[i], TimeStatistics.SKIPPED)
+                        : measureCell(fillerName, sorterClass, i, arraysForTesting[i]);
+                sortingTimes[i] = cellResult.getTimeStatistics();
+                publish(cellResult, !skipped);
+            }
+            if (!sortingTimes[i].isSkipped() && !sortingTimes[i].isFailed()) {
+                measuredLengths[measuredCount] = lengthSteps[i];
+                measuredTimes[measuredCount++] = sortingTimes[i].getMedian();
+            }
+        }
+    }
+
+    /**
+     * Runs the passed cells in the current thread or in the pool of worker threads of the analysis.
+     * Exceptions of cells are printed, results of failed cells stay unset in the analysis result.
+     * <p>
+     * Cells are added to the pool in reverse order, so that cells with the biggest arrays are started first
+     * and the pool is not left with a few long cells at the end.
+     *
+     * @param cells cells of the analysis
+     * @param workers worker threads, null to run cells in the current thread
+     */
+    private void runCells(List<Callable<Void>> cells, ExecutorService workers) {
+        if (workers == null) {
+            for (Callable<Void> cell : cells) {
+                try {
+                    cell.call();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+            return;
+        }
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = cells.size() - 1; i >= 0; i--) {
+            futures.add(workers.submit(cells.get(i)));
+        }
+        try {
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    e.getCause().printStackTrace();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (Future<Void> future : futures) {
+                future.cancel(true);
             }
         }
     }
@@ -97,7 +1164,7 @@ public class Analyzer {
     /**
      * Evaluates values on interval from minLength to maxLength.
      * Values grow exponentially by calculations that use natural exponential function and natural logarithm.
-     * Saves them in {@link Analyzer} int[] field in ascending order.
+     * Returns them in ascending order, so that benchmarks outside of {@link Analyzer} can use the same array sizes.
      * <p>
      * Values are rounded to:
      * <li>Hundreds if value is bigger than 1000;</li>
@@ -106,6 +1173,8 @@ public class Analyzer {
      *
      * @param minLength Initial interval value
      * @param maxLength Final interval value
+     * @param stepsCount Number of values on interval
+     * @return int[] of array sizes
      * @throws InvalidArgumentException If some of the following is true:
      *                                  <ul>
      *                                  <li>minLength < 0</li>
@@ -114,7 +1183,7 @@ public class Analyzer {
      *                                  <li>minLength > maxLength</li>
      *                                  </ul>
      */
-    private void calcStepsOnInterval(int minLength, int maxLength, int stepsCount) throws InvalidArgumentException {
+    public static int[] calcStepsOnInterval(int minLength, int maxLength, int stepsCount) throws InvalidArgumentException {
         if (minLength < 0 || maxLength < 1 || stepsCount < 1 || minLength > maxLength) {
             String[] s = {"One or more arguments are invalid"};
             throw new InvalidArgumentException(s);
@@ -131,6 +1200,6 @@ public class Analyzer {
             result[i] = step;
             stepLog += (logInterval) / (stepsCount - 1);
         }
-        lengthSteps = result;
+        return result;
     }
 }
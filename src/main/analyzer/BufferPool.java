@@ -0,0 +1,83 @@
+package main.analyzer;
+
+import main.offheap.BufferSorter;
+
+import java.nio.IntBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pool of reusable int arrays and direct buffers of one thread, that are sorted by measured runs instead of new copies
+ * of the analysis arrays.
+ * <p>
+ * Arrays and buffers are kept by their lengths, so that cells of different sorters with the same length reuse
+ * the same memory, which is already touched and is likely in the cache, instead of freshly allocated memory.
+ * The least recently used arrays and buffers are dropped, if their total size exceeds the limit.
+ * <p>
+ * The pool is not thread-safe and is used by one worker thread.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+final class BufferPool {
+    private final long maxBytes;
+    /**
+     * Arrays by their lengths and direct buffers by {@code -1 - length}, in order of access.
+     */
+    private final LinkedHashMap<Integer, Object> buffers = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * @param maxBytes maximum total size of kept arrays and buffers in bytes
+     */
+    BufferPool(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns an array of the passed length from the pool, or a new array, that is added to the pool.
+     * Contents of the returned array are undefined.
+     *
+     * @param length length of the array
+     * @return array, which can be used until the next call
+     */
+    int[] get(int length) {
+        int[] buffer = (int[]) buffers.get(length);
+        if (buffer == null) {
+            buffer = new int[length];
+            add(length, buffer, length);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns a direct buffer of the passed length in native byte order from the pool, or a new buffer,
+     * that is added to the pool, see {@link BufferSorter#allocateDirect(int)}. Contents of the returned buffer
+     * are undefined.
+     *
+     * @param length length of the buffer
+     * @return buffer with position 0 and limit equal to length, which can be used until the next call
+     */
+    IntBuffer getDirect(int length) {
+        IntBuffer buffer = (IntBuffer) buffers.get(-1 - length);
+        if (buffer == null) {
+            buffer = BufferSorter.allocateDirect(length);
+            add(-1 - length, buffer, length);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    private void add(int key, Object buffer, int length) {
+        buffers.put(key, buffer);
+        size += (long) length * Integer.BYTES;
+        Iterator<Map.Entry<Integer, Object>> eldest = buffers.entrySet().iterator();
+        while (size > maxBytes && buffers.size() > 1) {
+            Map.Entry<Integer, Object> entry = eldest.next();
+            int eldestLength = entry.getKey() < 0 ? -1 - entry.getKey() : entry.getKey();
+            size -= (long) eldestLength * Integer.BYTES;
+            eldest.remove();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package main.analyzer;
+
+import main.sorters.OperationCounter;
+
+/**
+ * Result of one analysis cell: sorting time and memory statistics of one sorter on the array,
+ * filled by one filler, of one of the analysis lengths, and optionally operation counts of the sorting,
+ * see {@link Analyzer#setCountOperations(boolean)}.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.2
+ */
+public final class CellResult {
+    private final String fillerName;
+    private final String sorterName;
+    private final int lengthIndex;
+    private final int length;
+    private final TimeStatistics timeStatistics;
+    private final MemoryStatistics memoryStatistics;
+    private final OperationCounter operationCounts;
+
+    /**
+     * @param fillerName name of the {@link main.fillers.Fillers} method
+     * @param sorterName simple name of the sorter class
+     * @param lengthIndex index of the array length in {@link Analyzer#getLengthSteps()}
+     * @param length array length
+     * @param timeStatistics sorting time statistics
+     */
+    public CellResult(String fillerName, String sorterName, int lengthIndex, int length, TimeStatistics timeStatistics) {
+        this(fillerName, sorterName, lengthIndex, length, timeStatistics, null, null);
+    }
+
+    /**
+     * @param fillerName name of the {@link main.fillers.Fillers} method
+     * @param sorterName simple name of the sorter class
+     * @param lengthIndex index of the array length in {@link Analyzer#getLengthSteps()}
+     * @param length array length
+     * @param timeStatistics sorting time statistics
+     * @param memoryStatistics memory statistics of measured runs, null if the cell was not measured
+     * @param operationCounts operation counts of one sorting, null if operations were not counted
+     */
+    public CellResult(String fillerName, String sorterName, int lengthIndex, int length, TimeStatistics timeStatistics,
+                      MemoryStatistics memoryStatistics, OperationCounter operationCounts) {
+        this.fillerName = fillerName;
+        this.sorterName = sorterName;
+        this.lengthIndex = lengthIndex;
+        this.length = length;
+        this.timeStatistics = timeStatistics;
+        this.memoryStatistics = memoryStatistics;
+        this.operationCounts = operationCounts;
+    }
+
+    public String getFillerName() {
+        return fillerName;
+    }
+
+    public String getSorterName() {
+        return sorterName;
+    }
+
+    public int getLengthIndex() {
+        return lengthIndex;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public TimeStatistics getTimeStatistics() {
+        return timeStatistics;
+    }
+
+    /**
+     * Returns memory statistics of measured runs.
+     *
+     * @return memory statistics, or null if the cell was skipped or was read from a source without them
+     */
+    public MemoryStatistics getMemoryStatistics() {
+        return memoryStatistics;
+    }
+
+    /**
+     * Returns operation counts of one sorting of the cell array.
+     *
+     * @return operation counts, or null if operations were not counted or the sorter is not
+     * an {@link main.sorters.InstrumentedSorter}
+     */
+    public OperationCounter getOperationCounts() {
+        return operationCounts;
+    }
+
+    @Override
+    public String toString() {
+        return fillerName + " / " + sorterName + " / " + length + ": " + timeStatistics
+                + (memoryStatistics == null ? "" : ", " + memoryStatistics)
+                + (operationCounts == null ? "" : " (" + operationCounts + ")");
+    }
+}
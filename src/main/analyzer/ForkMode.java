@@ -0,0 +1,29 @@
+package main.analyzer;
+
+/**
+ * Mode of isolation of sorters in separate JVMs, see {@link Analyzer#setForkMode(ForkMode)}.
+ * <p>
+ * A sorter, measured in the same JVM after other sorters, runs with JIT profiles and compiled code,
+ * that were shaped by the sorters before it, so its time depends on the order of sorters.
+ * Every fork measures its cells in a fresh JVM, which is started by {@link ForkedAnalysis}.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public enum ForkMode {
+
+    /**
+     * All cells are measured in the JVM of the analyzer.
+     */
+    NONE,
+
+    /**
+     * Cells of every sorter on all fillers are measured in a separate JVM.
+     */
+    PER_SORTER,
+
+    /**
+     * Cells of every pair of filler and sorter are measured in a separate JVM.
+     */
+    PER_FILLER_AND_SORTER
+}
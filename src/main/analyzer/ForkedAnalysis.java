@@ -0,0 +1,170 @@
+package main.analyzer;
+
+import main.fillers.DatasetCorpus;
+import main.output.CellResultCodec;
+import main.output.ResultSink;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of a JVM, forked by {@link Analyzer} to measure cells of some sorters and fillers,
+ * see {@link ForkMode}.
+ * <p>
+ * Analysis parameters are passed by the analyzer as {@code --name=value} arguments. Cells are exchanged
+ * through a loopback socket, which port is passed as the {@code --port} argument. The analyzer first sends cells
+ * of the fork, that are already in its journal, and shuts down its output, then the fork measures all other cells
+ * and sends them back. Cells are sent as frames: magic number
+ * {@value #FRAME_MAGIC} (int), encoded size (int) and cell, encoded by {@link CellResultCodec},
+ * in big-endian byte order. Results are not written to the standard output, because the JVM itself writes
+ * diagnostic output there, e.g. with {@code -XX:+PrintCompilation} or {@code -verbose:gc}.
+ * The process exits with code 0 after the last frame, or with code 1 if the analysis fails.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public final class ForkedAnalysis {
+    static final int FRAME_MAGIC = 0x53524652;
+    /**
+     * Maximum size of an encoded cell, which is greater than size of any cell with names shorter than 64 KiB.
+     */
+    static final int MAX_FRAME_SIZE = 1 << 18;
+
+    private ForkedAnalysis() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            Map<String, String> arguments = parseArguments(args);
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(arguments.get("port")))) {
+                run(arguments, socket);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    private static Map<String, String> parseArguments(String[] args) {
+        Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Invalid argument " + arg);
+            }
+            arguments.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return arguments;
+    }
+
+    private static void run(Map<String, String> arguments, Socket socket) throws Exception {
+        List<CellResult> journalCells = new ArrayList<>();
+        DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        CellResult cellResult;
+        while ((cellResult = readFrame(input)) != null) {
+            journalCells.add(cellResult);
+        }
+        Analyzer analyzer = new Analyzer();
+        analyzer.setForkJournalCells(journalCells);
+        analyzer.setWarmupIterations(Integer.parseInt(arguments.get("warmup")));
+        analyzer.setMeasuredIterations(Integer.parseInt(arguments.get("measured")));
+        analyzer.setSeed(Long.parseLong(arguments.get("seed")));
+        analyzer.setFillerFilter(Arrays.asList(arguments.get("fillers").split(",")));
+        analyzer.setSorterFilter(Arrays.asList(arguments.get("sorters").split(",")));
+        analyzer.setCountOperations(Boolean.parseBoolean(arguments.get("countOperations")));
+        analyzer.setGcQuiescence(Boolean.parseBoolean(arguments.get("gcQuiescence")));
+        analyzer.setCellTimeBudget(Long.parseLong(arguments.get("cellTimeBudget")), TimeUnit.NANOSECONDS);
+        analyzer.setSweepTimeBudget(Long.parseLong(arguments.get("sweepTimeBudget")), TimeUnit.NANOSECONDS);
+        analyzer.setRecordingFile(null);
+        analyzer.addSink(new FrameSink(new BufferedOutputStream(socket.getOutputStream())));
+        String corpusFile = arguments.get("corpus");
+        try (DatasetCorpus corpus = corpusFile == null ? null : DatasetCorpus.open(Paths.get(corpusFile))) {
+            analyzer.setCorpus(corpus);
+            analyzer.startAnalysis(parseLengths(arguments.get("lengths")));
+        }
+    }
+
+    private static int[] parseLengths(String lengths) {
+        String[] values = lengths.split(",");
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = Integer.parseInt(values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the next frame of a forked JVM or of the analyzer, that started it.
+     *
+     * @param input frames of the socket
+     * @return cell of the frame, or null if the results are finished
+     * @throws IOException if the results cannot be read, end inside a frame or are not valid frames
+     */
+    static CellResult readFrame(DataInputStream input) throws IOException {
+        int magic;
+        try {
+            magic = input.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        int size = input.readInt();
+        if (magic != FRAME_MAGIC || size < 0 || size > MAX_FRAME_SIZE) {
+            throw new IOException("Invalid frame of a forked JVM: magic " + Integer.toHexString(magic)
+                    + ", size " + size);
+        }
+        byte[] frame = new byte[size];
+        input.readFully(frame);
+        try {
+            return CellResultCodec.decode(ByteBuffer.wrap(frame));
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid frame of a forked JVM", e);
+        }
+    }
+
+    /**
+     * Sink, that writes every cell as a frame to the passed stream and flushes it,
+     * so that the analyzer, that forked the JVM, receives cells as soon as they are measured.
+     */
+    static final class FrameSink implements ResultSink {
+        private final DataOutputStream output;
+
+        FrameSink(OutputStream output) {
+            this.output = new DataOutputStream(output);
+        }
+
+        @Override
+        public void start(int[] lengthSteps) {
+        }
+
+        @Override
+        public void accept(CellResult cellResult) throws IOException {
+            ByteBuffer frame = ByteBuffer.allocate(CellResultCodec.getEncodedSize(cellResult));
+            CellResultCodec.encode(cellResult, frame);
+            output.writeInt(FRAME_MAGIC);
+            output.writeInt(frame.capacity());
+            output.write(frame.array());
+            output.flush();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            output.flush();
+        }
+    }
+}
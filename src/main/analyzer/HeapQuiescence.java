@@ -0,0 +1,37 @@
+package main.analyzer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Brings the heap to a quiet state before measurement, so that garbage of previous cells is not collected
+ * during measured runs of the next cell.
+ * <p>
+ * Full collections are requested by {@link System#gc()}, until used heap stops decreasing
+ * or {@value #MAX_COLLECTIONS} collections are performed.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+final class HeapQuiescence {
+    private static final int MAX_COLLECTIONS = 5;
+    private static final MemoryMXBean MEMORY_BEAN = ManagementFactory.getMemoryMXBean();
+
+    private HeapQuiescence() {
+    }
+
+    /**
+     * Collects garbage, until used heap stops decreasing.
+     */
+    static void await() {
+        long used = MEMORY_BEAN.getHeapMemoryUsage().getUsed();
+        for (int i = 0; i < MAX_COLLECTIONS; i++) {
+            System.gc();
+            long usedAfterCollection = MEMORY_BEAN.getHeapMemoryUsage().getUsed();
+            if (usedAfterCollection >= used) {
+                return;
+            }
+            used = usedAfterCollection;
+        }
+    }
+}
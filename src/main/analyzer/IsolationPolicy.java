@@ -0,0 +1,43 @@
+package main.analyzer;
+
+/**
+ * Policy, that limits number of analysis cells, measured by {@link Analyzer} at the same time.
+ * <p>
+ * Each cell (one sorter on one array) is always measured by a single worker thread,
+ * the policy determines how many workers may run concurrently.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public enum IsolationPolicy {
+
+    /**
+     * Number of workers equals requested parallelism, even if there are more workers than processors.
+     */
+    SHARED {
+        @Override
+        int getWorkersCount(int parallelism) {
+            return parallelism;
+        }
+    },
+
+    /**
+     * Number of workers is limited by the number of physical cores, estimated as half of available processors,
+     * so that a worker does not share a core with another worker, JIT compiler or garbage collector threads.
+     */
+    ONE_CELL_PER_CORE {
+        @Override
+        int getWorkersCount(int parallelism) {
+            int cores = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            return Math.min(parallelism, cores);
+        }
+    };
+
+    /**
+     * Returns number of workers, that may measure cells concurrently.
+     *
+     * @param parallelism requested number of workers, greater than 0
+     * @return number of workers, greater than 0
+     */
+    abstract int getWorkersCount(int parallelism);
+}
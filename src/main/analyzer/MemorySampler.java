@@ -0,0 +1,110 @@
+package main.analyzer;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * Sampler of memory usage of the sorting runs of one analysis cell, that are performed by the current thread.
+ * <p>
+ * Allocated bytes are read from {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)},
+ * which is available on HotSpot JVMs, and allocation measurement is enabled on creation, if it is supported.
+ * Collection counters are sums of values of all {@link GarbageCollectorMXBean garbage collector beans}.
+ * <p>
+ * Values are sampled right before and after the timed window of a run, so sampling does not affect measured time.
+ * Bytes, allocated by sampling itself, are measured on creation and subtracted from allocated bytes of every run.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+final class MemorySampler {
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+    private final long threadId = Thread.currentThread().getId();
+    private final long samplingAllocatedBytes;
+    private long allocatedBytesBefore;
+    private long gcCountBefore;
+    private long gcTimeBefore;
+    private long allocatedBytes;
+    private long gcCount;
+    private long gcTime;
+    private int gcAffectedRuns;
+
+    MemorySampler() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationBean = null;
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            allocationBean = (com.sun.management.ThreadMXBean) bean;
+            if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+            }
+        }
+        threadBean = allocationBean;
+        long overhead = 0;
+        for (int i = 0; i < 2; i++) {                   // the first sampling may allocate more on initialization
+            beforeRun();
+            overhead = getAllocatedBytes() - allocatedBytesBefore;
+        }
+        samplingAllocatedBytes = overhead;
+    }
+
+    /**
+     * Samples values before the timed window of a run.
+     */
+    void beforeRun() {
+        allocatedBytesBefore = getAllocatedBytes();
+        gcCountBefore = getGcCount();
+        gcTimeBefore = getGcTime();
+    }
+
+    /**
+     * Samples values after the timed window of a run and adds their changes to the totals of measured runs.
+     *
+     * @param measured false for warmup runs, which are not added to the totals
+     */
+    void afterRun(boolean measured) {
+        long runAllocatedBytes = Math.max(0, getAllocatedBytes() - allocatedBytesBefore - samplingAllocatedBytes);
+        long runGcCount = getGcCount() - gcCountBefore;
+        long runGcTime = getGcTime() - gcTimeBefore;
+        if (measured) {
+            allocatedBytes += runAllocatedBytes;
+            gcCount += runGcCount;
+            gcTime += runGcTime;
+            if (runGcCount > 0) {
+                gcAffectedRuns++;
+            }
+        }
+    }
+
+    /**
+     * Returns statistics of all measured runs.
+     *
+     * @param runs number of measured runs
+     * @return memory statistics, allocated bytes are -1 if allocation measurement is not supported
+     */
+    MemoryStatistics getStatistics(int runs) {
+        return new MemoryStatistics(threadBean == null ? -1 : allocatedBytes / runs, gcCount, gcTime, gcAffectedRuns);
+    }
+
+    private long getAllocatedBytes() {
+        return threadBean == null ? 0 : threadBean.getThreadAllocatedBytes(threadId);
+    }
+
+    private long getGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gcBean : gcBeans) {
+            count += Math.max(0, gcBean.getCollectionCount());
+        }
+        return count;
+    }
+
+    private long getGcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gcBean : gcBeans) {
+            time += Math.max(0, gcBean.getCollectionTime());
+        }
+        return time;
+    }
+}
@@ -0,0 +1,66 @@
+package main.analyzer;
+
+/**
+ * Class for representing memory usage of repeatedly measured sorting of one array.
+ * <p>
+ * Contains mean number of bytes, allocated by the sorting thread during one measured run,
+ * and number and accumulated time of garbage collections, that happened during measured runs.
+ * A run is affected by garbage collection, if a collection happened between the start and the finish of the run,
+ * so that the measured time of the run includes the time of the collection or a part of it.
+ * <p>
+ * Collections are counted for the whole JVM, so with several worker threads a collection,
+ * caused by another cell, is counted too.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public final class MemoryStatistics {
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcTime;
+    private final int gcAffectedRuns;
+
+    /**
+     * @param allocatedBytes mean number of bytes, allocated during one measured run, -1 if unknown
+     * @param gcCount number of garbage collections during measured runs
+     * @param gcTime accumulated time of garbage collections during measured runs in milliseconds
+     * @param gcAffectedRuns number of measured runs, during which at least one garbage collection happened
+     */
+    public MemoryStatistics(long allocatedBytes, long gcCount, long gcTime, int gcAffectedRuns) {
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcTime = gcTime;
+        this.gcAffectedRuns = gcAffectedRuns;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcTime() {
+        return gcTime;
+    }
+
+    public int getGcAffectedRuns() {
+        return gcAffectedRuns;
+    }
+
+    /**
+     * Checks if a garbage collection happened inside the timed window of at least one measured run.
+     *
+     * @return true if at least one run is affected by garbage collection
+     */
+    public boolean isGcAffected() {
+        return gcAffectedRuns > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "allocated " + allocatedBytes + " B, " + gcCount + " GC (" + gcTime + " ms) in "
+                + gcAffectedRuns + " runs";
+    }
+}
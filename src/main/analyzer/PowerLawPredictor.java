@@ -0,0 +1,60 @@
+package main.analyzer;
+
+/**
+ * Predictor of sorting time for the next array length from sorting times of previous lengths,
+ * based on power law {@code time = a * length^b}.
+ * <p>
+ * Coefficients are fitted by least squares on logarithms of the last {@value #FIT_POINTS} points,
+ * so that the fit follows the asymptotic growth rather than overheads of small arrays.
+ * Time is extrapolated from the last point with the fitted exponent.
+ * The exponent is limited to [{@value #MIN_EXPONENT}, {@value #MAX_EXPONENT}], the range of sorting algorithms,
+ * and the quadratic exponent is assumed, if there is only one point.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+final class PowerLawPredictor {
+    static final int FIT_POINTS = 3;
+    static final double MIN_EXPONENT = 1;
+    static final double MAX_EXPONENT = 3;
+    private static final double DEFAULT_EXPONENT = 2;
+
+    private PowerLawPredictor() {
+    }
+
+    /**
+     * Predicts sorting time for the passed length.
+     *
+     * @param lengths array lengths of previous points in ascending order
+     * @param times sorting times of previous points
+     * @param count number of previous points
+     * @param nextLength length, for which time is predicted
+     * @return predicted time, 0 if there are no previous points
+     */
+    static double predict(int[] lengths, long[] times, int count, int nextLength) {
+        if (count == 0) {
+            return 0;
+        }
+        int from = Math.max(0, count - FIT_POINTS);
+        double exponent = DEFAULT_EXPONENT;
+        int n = count - from;
+        if (n > 1) {
+            double sumX = 0, sumY = 0, sumXX = 0, sumXY = 0;
+            for (int i = from; i < count; i++) {
+                double x = Math.log(Math.max(lengths[i], 1));
+                double y = Math.log(Math.max(times[i], 1));
+                sumX += x;
+                sumY += y;
+                sumXX += x * x;
+                sumXY += x * y;
+            }
+            double denominator = n * sumXX - sumX * sumX;
+            if (denominator > 0) {
+                exponent = (n * sumXY - sumX * sumY) / denominator;
+            }
+        }
+        exponent = Math.max(MIN_EXPONENT, Math.min(MAX_EXPONENT, exponent));
+        int last = count - 1;
+        return Math.max(times[last], 1) * Math.pow((double) nextLength / Math.max(lengths[last], 1), exponent);
+    }
+}
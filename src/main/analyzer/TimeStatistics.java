@@ -0,0 +1,174 @@
+package main.analyzer;
+
+import java.util.Arrays;
+
+/**
+ * Class for representing statistics of repeatedly measured sorting time of one array.
+ * <p>
+ * Contains minimum, maximum, median, mean, 90th and 99th percentiles, standard deviation
+ * and half-width of 95% confidence interval of the mean. All values are in nanoseconds.
+ * <p>
+ * Cells, that were not measured, e.g. because of a time budget, have {@link #SKIPPED} statistics
+ * with zero iterations, and cells, which measurement failed with an exception, have {@link #FAILED} statistics
+ * with -1 iterations.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.3
+ */
+public final class TimeStatistics {
+
+    /**
+     * Two-sided Student's t-distribution critical values for 95% confidence level,
+     * index of the value equals degrees of freedom.
+     */
+    private static final double[] T_95 = {Double.NaN,
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042};
+    private static final double Z_95 = 1.960;
+
+    /**
+     * Statistics of a cell, that was skipped without measurement, all values are 0.
+     */
+    public static final TimeStatistics SKIPPED = new TimeStatistics(0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    /**
+     * Statistics of a cell, which measurement failed with an exception, all values except iterations are 0.
+     */
+    public static final TimeStatistics FAILED = new TimeStatistics(-1, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    private final int iterations;
+    private final long min;
+    private final long max;
+    private final long median;
+    private final double mean;
+    private final long p90;
+    private final long p99;
+    private final double stdDev;
+    private final double confidenceInterval;
+
+    public TimeStatistics(int iterations, long min, long max, long median, double mean,
+                          long p90, long p99, double stdDev, double confidenceInterval) {
+        this.iterations = iterations;
+        this.min = min;
+        this.max = max;
+        this.median = median;
+        this.mean = mean;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.stdDev = stdDev;
+        this.confidenceInterval = confidenceInterval;
+    }
+
+    /**
+     * Calculates statistics of the passed sorting time samples.
+     *
+     * @param samples measured sorting time values in nanoseconds, at least one value
+     * @return statistics of the samples
+     */
+    public static TimeStatistics of(long[] samples) {
+        long[] sorted = Arrays.copyOf(samples, samples.length);
+        Arrays.sort(sorted);
+        int n = sorted.length;
+
+        double sum = 0;
+        for (long sample : sorted) {
+            sum += sample;
+        }
+        double mean = sum / n;
+        double squaresSum = 0;
+        for (long sample : sorted) {
+            squaresSum += (sample - mean) * (sample - mean);
+        }
+        double stdDev = n > 1 ? Math.sqrt(squaresSum / (n - 1)) : 0;
+        double criticalValue = n - 1 < T_95.length ? T_95[n - 1] : Z_95;
+        double confidenceInterval = n > 1 ? criticalValue * stdDev / Math.sqrt(n) : 0;
+        long median = n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2;
+
+        return new TimeStatistics(n, sorted[0], sorted[n - 1], median, mean,
+                percentile(sorted, 90), percentile(sorted, 99), stdDev, confidenceInterval);
+    }
+
+    /**
+     * Returns percentile of the sorted samples, evaluated with the nearest-rank method.
+     *
+     * @param sorted samples, sorted in ascending order
+     * @param percent percentile rank from 1 to 100
+     * @return value, that is greater or equal to the passed percent of samples
+     */
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns whether the cell was skipped without measurement.
+     *
+     * @return true if there are no measured iterations
+     */
+    public boolean isSkipped() {
+        return iterations == 0;
+    }
+
+    /**
+     * Returns whether measurement of the cell failed with an exception.
+     *
+     * @return true if number of iterations is negative
+     */
+    public boolean isFailed() {
+        return iterations < 0;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getMedian() {
+        return median;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public long getP90() {
+        return p90;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public double getStdDev() {
+        return stdDev;
+    }
+
+    /**
+     * Returns half-width of 95% confidence interval of the mean, so that the interval is
+     * {@code [mean - confidenceInterval, mean + confidenceInterval]}.
+     *
+     * @return half-width of the confidence interval in nanoseconds, 0 for a single sample
+     */
+    public double getConfidenceInterval() {
+        return confidenceInterval;
+    }
+
+    @Override
+    public String toString() {
+        if (isSkipped()) {
+            return "skipped";
+        }
+        if (isFailed()) {
+            return "failed";
+        }
+        return String.format("median %d ns, mean %.1f \u00b1 %.1f ns (n = %d)", median, mean, confidenceInterval, iterations);
+    }
+}
@@ -1,6 +1,9 @@
 package main.excel;
 
 import main.analyzer.Analyzer;
+import main.analyzer.MemoryStatistics;
+import main.analyzer.TimeStatistics;
+import main.sorters.OperationCounter;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.charts.*;
@@ -15,24 +18,32 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.TreeMap;
+import java.util.NavigableMap;
 
 /**
  * Class for exporting sorting algorithms analysis data to a .xlsx format.
  *
  * Creates a file with a separate sheet for every corresponding array type from passed data, and the following sheet containment:
  * <ul>
- *     <li>Table of all algorithms sorting time for corresponding array size;</li>
+ *     <li>Table of all algorithms median sorting time for corresponding array size;</li>
  *     <li>Table divisor area with drop-down list for converting table data to another time units from nanosecond to second; </li>
  *     <li>Chart based on table data, which displays algorithm's sorting time vs. array size. </li>
  * </ul>
+ * Cells, that were skipped by the analysis time budget or which measurement failed, contain #N/A error,
+ * so that charts have gaps in their place, and the sheet contains a note about them.
+ * <p>
+ * If memory statistics or operation counts are set, they are written to separate sheets,
+ * see {@link #setMemoryStatistics(NavigableMap)} and {@link #setOperationCounts(NavigableMap)}.
  *
  * @author Dmytro Storozhenko
- * @version 1.3
+ * @version 1.8
  */
 public class ExcelExport {
+    static final String SKIPPED_CELLS_NOTE = "#N/A - skipped by time budget";
+    static final String FAILED_CELLS_NOTE = "#N/A - failed, see error output of the analysis";
+
     private XSSFWorkbook workbook = new XSSFWorkbook();
-    private TreeMap<String, TreeMap<String, long[]>> data;
+    private NavigableMap<String, NavigableMap<String, TimeStatistics[]>> data;
     private int[] lengthsList;
     private int tableSize;
     private int divRowIndex;
@@ -46,6 +57,7 @@ public class ExcelExport {
     private XSSFCellStyle cellStyleSmallIt = workbook.createCellStyle();
     private XSSFCellStyle cellStyleBIt = workbook.createCellStyle();
     private XSSFCellStyle cellStyleDropDown = workbook.createCellStyle();
+    private XSSFCellStyle cellStyleNote = workbook.createCellStyle();
     private Font boldFont = workbook.createFont();
     private Font smallerBoldFont = workbook.createFont();
     private Font boldItalicFont = workbook.createFont();
@@ -53,6 +65,38 @@ public class ExcelExport {
     private Font tableCellFont = workbook.createFont();
     private Font dropDownFont = workbook.createFont();
     private int tableColWidth = 2100;
+    private NavigableMap<String, NavigableMap<String, MemoryStatistics[]>> memoryStatistics;
+    private NavigableMap<String, NavigableMap<String, OperationCounter[]>> operationCounts;
+    private File outputFile = new File("out/output/Sorting Analysis.xlsx");
+
+    /**
+     * Sets the file, to which the workbook is saved.
+     *
+     * @param outputFile .xlsx file, "out/output/Sorting Analysis.xlsx" by default
+     */
+    public void setOutputFile(File outputFile) {
+        this.outputFile = outputFile;
+    }
+
+    /**
+     * Sets memory statistics of the analysis, which are written to the "Memory" sheet after all filler sheets.
+     *
+     * @param memoryStatistics statistics in the same format as analysis results, null for cells without statistics,
+     *                         or null to write no "Memory" sheet (by default)
+     */
+    public void setMemoryStatistics(NavigableMap<String, NavigableMap<String, MemoryStatistics[]>> memoryStatistics) {
+        this.memoryStatistics = memoryStatistics;
+    }
+
+    /**
+     * Sets operation counts of the analysis, which are written to the "Operations" sheet after all filler sheets.
+     *
+     * @param operationCounts counts in the same format as analysis results, null for cells without counts,
+     *                        or null to write no "Operations" sheet (by default)
+     */
+    public void setOperationCounts(NavigableMap<String, NavigableMap<String, OperationCounter[]>> operationCounts) {
+        this.operationCounts = operationCounts;
+    }
 
     /**
      * Method for creating {@link BorderStyle#THIN} border around the passed table cells region in the passed sheet.
@@ -123,19 +167,20 @@ public class ExcelExport {
         cellStyleBIt.setFont(boldItalicFont);
         cellStyleBIt.setAlignment(HorizontalAlignment.CENTER);
         cellStyleDropDown.setFont(dropDownFont);
+        cellStyleNote.setFont(smallItalicFont);
     }
 
     /**
-     * Translates passed data to .xlsx file format and tries to save it in "out/output/Sorting Analysis.xlsx".
+     * Translates passed data to .xlsx file format and tries to save it in the output file,
+     * see {@link #setOutputFile(File)}.
      *
      * @param data analysis results in format, described in {@link Analyzer#getAnalysisResult()}
      * @param lengthsList array sizes, which where used in analysis
      * @return file in .xlsx format
      * @throws IOException see {@link FileOutputStream} exceptions section
      */
-    public File getOutputFile(TreeMap<String, TreeMap<String, long[]>> data, int[] lengthsList) throws IOException {
+    public File getOutputFile(NavigableMap<String, NavigableMap<String, TimeStatistics[]>> data, int[] lengthsList) throws IOException {
         ArrayList<ArrayList<ChartDataSource<Number>>> allSheetsChartData = new ArrayList<>();
-        File outputFile = new File("out/output/Sorting Analysis.xlsx");
 
         this.data = data;
         this.lengthsList = lengthsList;
@@ -147,6 +192,8 @@ public class ExcelExport {
         for (String filler : data.keySet()) {
             XSSFSheet sheet = workbook.createSheet(filler.substring(3));
             ArrayList<ChartDataSource<Number>> currSheetChartData = new ArrayList<>();
+            boolean hasSkippedCells = false;
+            boolean hasFailedCells = false;
 
             int rowInd = 0;
             Row headerRow = sheet.createRow(rowInd++);
@@ -162,12 +209,23 @@ public class ExcelExport {
                 Cell sorterNameCell = sorterRow.createCell(cellInd++);
                 sorterNameCell.setCellStyle(cellStyleLeftHeader);
                 sorterNameCell.setCellValue(sorter.replace("Sorter", ""));
-                long[] sorterTimeStatistics = data.get(filler).get(sorter);
-                for (long timeValue : sorterTimeStatistics) {
+                TimeStatistics[] sorterTimeStatistics = data.get(filler).get(sorter);
+                for (TimeStatistics timeStatistics : sorterTimeStatistics) {
                     Cell timeCell = sorterRow.createCell(cellInd++);
-                    timeCell.setCellFormula(timeValue + "/" +
-                            CellReference.convertNumToColString(divFirstCellIndex + 2) + (divRowIndex + 1));
-                    timeCell.setCellValue(timeValue);
+                    if (timeStatistics == null || timeStatistics.isFailed()) {
+                        timeCell.setCellFormula("NA()");
+                        timeCell.setCellErrorValue(FormulaError.NA.getCode());
+                        hasFailedCells = true;
+                    } else if (timeStatistics.isSkipped()) {
+                        timeCell.setCellFormula("NA()");
+                        timeCell.setCellErrorValue(FormulaError.NA.getCode());
+                        hasSkippedCells = true;
+                    } else {
+                        long timeValue = timeStatistics.getMedian();
+                        timeCell.setCellFormula(timeValue + "/" +
+                                CellReference.convertNumToColString(divFirstCellIndex + 2) + (divRowIndex + 1));
+                        timeCell.setCellValue(timeValue);
+                    }
                     timeCell.setCellStyle(cellStyleTimeCell);
                 }
                 // Adding sorting time values for this sorter to data sources for chart creation
@@ -180,6 +238,12 @@ public class ExcelExport {
                 sheet.setColumnWidth(i, tableColWidth);
             }
 
+            if (hasSkippedCells || hasFailedCells) {
+                Cell noteCell = sheet.createRow(divRowIndex + 1).createCell(divFirstCellIndex);
+                noteCell.setCellValue(getNote(hasSkippedCells, hasFailedCells));
+                noteCell.setCellStyle(cellStyleNote);
+            }
+
             CellRangeAddress tableCellsRange = new CellRangeAddress(1, tableSize, 1, lengthsList.length);
             RegionUtil.setBorderBottom(BorderStyle.THIN, tableCellsRange, sheet);
             RegionUtil.setBorderTop(BorderStyle.DOUBLE, tableCellsRange, sheet);
@@ -188,12 +252,36 @@ public class ExcelExport {
         }
         createDivDropDownLists();
         createDataCharts(allSheetsChartData);
+        if (memoryStatistics != null) {
+            MetricsSheet.create(workbook, MetricsSheet.MEMORY_SHEET_NAME, MetricsSheet.MEMORY_HEADERS,
+                    memoryStatistics, lengthsList, cellStyleTopHeader, memory -> new long[]{memory.getAllocatedBytes(),
+                            memory.getGcCount(), memory.getGcTime(), memory.getGcAffectedRuns()});
+        }
+        if (operationCounts != null) {
+            MetricsSheet.create(workbook, MetricsSheet.OPERATIONS_SHEET_NAME, MetricsSheet.OPERATIONS_HEADERS,
+                    operationCounts, lengthsList, cellStyleTopHeader, counts -> new long[]{counts.getComparisons(),
+                            counts.getMoves(), counts.getSwaps(), counts.getAllocatedElements()});
+        }
         FileOutputStream out = new FileOutputStream(outputFile);
         workbook.write(out);
         out.close();
         return outputFile;
     }
 
+    /**
+     * Returns note about cells without sorting time, that are shown as #N/A.
+     *
+     * @param hasSkippedCells true if the sheet has skipped cells
+     * @param hasFailedCells true if the sheet has failed cells
+     * @return note text
+     */
+    static String getNote(boolean hasSkippedCells, boolean hasFailedCells) {
+        if (hasSkippedCells && hasFailedCells) {
+            return SKIPPED_CELLS_NOTE + "; " + FAILED_CELLS_NOTE;
+        }
+        return hasSkippedCells ? SKIPPED_CELLS_NOTE : FAILED_CELLS_NOTE;
+    }
+
     /**
      * Creates an area for possibility to change table divisor to convert table values to another time unit.
      */
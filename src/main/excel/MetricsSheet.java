@@ -0,0 +1,78 @@
+package main.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.function.Function;
+
+/**
+ * Writer of sheets with additional metrics of analysis cells, such as operation counts and memory statistics,
+ * that are added by {@link ExcelExport} and {@link StreamingExcelExport} after all filler sheets.
+ * <p>
+ * The sheet contains a flat table with a row for every cell with metrics: filler, sorter, array length
+ * and values of the metrics. Rows are written in ascending order, so the sheet can be written
+ * through a streaming workbook.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+final class MetricsSheet {
+    static final String OPERATIONS_SHEET_NAME = "Operations";
+    static final String[] OPERATIONS_HEADERS = {"Comparisons", "Moves", "Swaps", "Allocated elements"};
+    static final String MEMORY_SHEET_NAME = "Memory";
+    static final String[] MEMORY_HEADERS = {"Allocated bytes per run", "GC count", "GC time, ms", "Runs with GC"};
+    private static final int COLUMN_WIDTH = 4200;
+
+    private MetricsSheet() {
+    }
+
+    /**
+     * Adds the sheet to the workbook.
+     *
+     * @param workbook workbook
+     * @param sheetName name of the sheet
+     * @param headers names of the metrics
+     * @param metrics metrics in the same format as analysis results, null for cells without metrics
+     * @param lengthsList array sizes, which where used in analysis
+     * @param headerStyle style of the header row
+     * @param values function, that returns values of all metrics of a cell in order of headers
+     * @param <T> type of metrics of a cell
+     */
+    static <T> void create(Workbook workbook, String sheetName, String[] headers,
+                           NavigableMap<String, NavigableMap<String, T[]>> metrics, int[] lengthsList,
+                           CellStyle headerStyle, Function<T, long[]> values) {
+        Sheet sheet = workbook.createSheet(sheetName);
+        Row headerRow = sheet.createRow(0);
+        String[] keyHeaders = {"Filler", "Sorter", "Length"};
+        for (int i = 0; i < keyHeaders.length + headers.length; i++) {
+            Cell headerCell = headerRow.createCell(i);
+            headerCell.setCellValue(i < keyHeaders.length ? keyHeaders[i] : headers[i - keyHeaders.length]);
+            headerCell.setCellStyle(headerStyle);
+            sheet.setColumnWidth(i, COLUMN_WIDTH);
+        }
+        int rowInd = 1;
+        for (Map.Entry<String, NavigableMap<String, T[]>> filler : metrics.entrySet()) {
+            for (Map.Entry<String, T[]> sorter : filler.getValue().entrySet()) {
+                T[] cells = sorter.getValue();
+                for (int i = 0; i < cells.length; i++) {
+                    if (cells[i] == null) {
+                        continue;
+                    }
+                    Row row = sheet.createRow(rowInd++);
+                    row.createCell(0).setCellValue(filler.getKey().substring(3));
+                    row.createCell(1).setCellValue(sorter.getKey().replace("Sorter", ""));
+                    row.createCell(2).setCellValue(lengthsList[i]);
+                    long[] cellValues = values.apply(cells[i]);
+                    for (int j = 0; j < cellValues.length; j++) {
+                        row.createCell(keyHeaders.length + j).setCellValue(cellValues[j]);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package main.excel;
+
+import main.analyzer.Analyzer;
+import main.analyzer.MemoryStatistics;
+import main.analyzer.TimeStatistics;
+import main.sorters.OperationCounter;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.usermodel.charts.*;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellRangeAddressList;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFChart;
+import org.apache.poi.xssf.usermodel.XSSFColor;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.NavigableMap;
+
+/**
+ * Class for exporting sorting algorithms analysis data to a .xlsx format with bounded memory usage.
+ * <p>
+ * Creates a file with the same sheets, tables, table divisor areas and charts as {@link ExcelExport},
+ * but writes rows through {@link SXSSFWorkbook}, which keeps only the last {@value #ROW_ACCESS_WINDOW} rows
+ * of a sheet in memory and flushes older rows to a temporary file.
+ * <p>
+ * All cell styles, including styles with table borders, are created once per workbook,
+ * so that no border operations over cell regions are needed.
+ * Skipped and failed cells, memory statistics and operation counts are written
+ * as in {@link ExcelExport}.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.5
+ */
+public class StreamingExcelExport {
+    private static final int ROW_ACCESS_WINDOW = 10;
+    private static final int BORDER_TOP = 1;
+    private static final int BORDER_BOTTOM = 2;
+    private static final int BORDER_LEFT = 4;
+    private static final int BORDER_RIGHT = 8;
+
+    private final SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+    private final int divFirstCellIndex = 1;
+    private final int divLegendFirstCellIndex = 6;
+    private final int tableColWidth = 2100;
+
+    private Font boldFont;
+    private Font smallerBoldFont;
+    private CellStyle cellStyleTopHeader;
+    private CellStyle cellStyleLeftHeader;
+    private CellStyle cellStyleNote;
+    private CellStyle[] cellStylesTimeCell = new CellStyle[16];
+    private CellStyle[] cellStylesDivisorLabel = new CellStyle[16];
+    private CellStyle[] cellStylesDivisorValue = new CellStyle[16];
+    private CellStyle[] cellStylesLegendValue = new CellStyle[16];
+    private CellStyle[] cellStylesLegendUnit = new CellStyle[16];
+    private NavigableMap<String, NavigableMap<String, MemoryStatistics[]>> memoryStatistics;
+    private NavigableMap<String, NavigableMap<String, OperationCounter[]>> operationCounts;
+    private File outputFile = new File("out/output/Sorting Analysis.xlsx");
+
+    /**
+     * Sets the file, to which the workbook is saved.
+     *
+     * @param outputFile .xlsx file, "out/output/Sorting Analysis.xlsx" by default
+     */
+    public void setOutputFile(File outputFile) {
+        this.outputFile = outputFile;
+    }
+
+    /**
+     * Sets memory statistics of the analysis, which are written to the "Memory" sheet after all filler sheets.
+     *
+     * @param memoryStatistics statistics in the same format as analysis results, null for cells without statistics,
+     *                         or null to write no "Memory" sheet (by default)
+     */
+    public void setMemoryStatistics(NavigableMap<String, NavigableMap<String, MemoryStatistics[]>> memoryStatistics) {
+        this.memoryStatistics = memoryStatistics;
+    }
+
+    /**
+     * Sets operation counts of the analysis, which are written to the "Operations" sheet after all filler sheets.
+     *
+     * @param operationCounts counts in the same format as analysis results, null for cells without counts,
+     *                        or null to write no "Operations" sheet (by default)
+     */
+    public void setOperationCounts(NavigableMap<String, NavigableMap<String, OperationCounter[]>> operationCounts) {
+        this.operationCounts = operationCounts;
+    }
+
+    /**
+     * Creates a cell style with {@link BorderStyle#THIN} borders on the sides, specified by the passed bit mask.
+     *
+     * @param borders combination of BORDER_* bits
+     * @param font font of the style
+     * @param alignment horizontal alignment of the style
+     * @return new cell style
+     */
+    private CellStyle createBorderedStyle(int borders, Font font, HorizontalAlignment alignment) {
+        CellStyle cellStyle = workbook.createCellStyle();
+        cellStyle.setFont(font);
+        cellStyle.setAlignment(alignment);
+        if ((borders & BORDER_TOP) != 0) cellStyle.setBorderTop(BorderStyle.THIN);
+        if ((borders & BORDER_BOTTOM) != 0) cellStyle.setBorderBottom(BorderStyle.THIN);
+        if ((borders & BORDER_LEFT) != 0) cellStyle.setBorderLeft(BorderStyle.THIN);
+        if ((borders & BORDER_RIGHT) != 0) cellStyle.setBorderRight(BorderStyle.THIN);
+        return cellStyle;
+    }
+
+    private CellStyle createHeadersCellStyle(HorizontalAlignment horizontalAlignment) {
+        XSSFCellStyle headerCellStyle = (XSSFCellStyle) createBorderedStyle(BORDER_TOP | BORDER_BOTTOM | BORDER_LEFT | BORDER_RIGHT,
+                horizontalAlignment == HorizontalAlignment.CENTER ? smallerBoldFont : boldFont, horizontalAlignment);
+        headerCellStyle.setFillForegroundColor(new XSSFColor(new Color(204, 255, 255)));
+        headerCellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        return headerCellStyle;
+    }
+
+    /**
+     * Creates all fonts and cell styles of the workbook.
+     * <p>
+     * Table cells on the edges of the table get the borders, that {@link ExcelExport} sets around the table:
+     * double top and left borders and thin bottom and right borders.
+     */
+    private void initFormatting() {
+        boldFont = workbook.createFont();
+        boldFont.setFontHeightInPoints((short) 13);
+        boldFont.setBold(true);
+        smallerBoldFont = workbook.createFont();
+        smallerBoldFont.setFontHeightInPoints((short) 11);
+        smallerBoldFont.setBold(true);
+        Font boldItalicFont = workbook.createFont();
+        boldItalicFont.setFontHeightInPoints((short) 13);
+        boldItalicFont.setBold(true);
+        boldItalicFont.setItalic(true);
+        Font smallItalicFont = workbook.createFont();
+        smallItalicFont.setFontHeightInPoints((short) 10);
+        smallItalicFont.setItalic(true);
+        Font tableCellFont = workbook.createFont();
+        tableCellFont.setFontHeightInPoints((short) 9);
+        Font dropDownFont = workbook.createFont();
+        dropDownFont.setFontName("Arial");
+        dropDownFont.setItalic(true);
+
+        cellStyleTopHeader = createHeadersCellStyle(HorizontalAlignment.CENTER);
+        cellStyleLeftHeader = createHeadersCellStyle(HorizontalAlignment.RIGHT);
+        cellStyleNote = workbook.createCellStyle();
+        cellStyleNote.setFont(smallItalicFont);
+        short timeFormat = workbook.createDataFormat().getFormat("0.000");
+        for (int borders = 0; borders < 16; borders++) {
+            CellStyle timeCellStyle = workbook.createCellStyle();
+            timeCellStyle.setFont(tableCellFont);
+            timeCellStyle.setDataFormat(timeFormat);
+            if ((borders & BORDER_TOP) != 0) timeCellStyle.setBorderTop(BorderStyle.DOUBLE);
+            if ((borders & BORDER_BOTTOM) != 0) timeCellStyle.setBorderBottom(BorderStyle.THIN);
+            if ((borders & BORDER_LEFT) != 0) timeCellStyle.setBorderLeft(BorderStyle.DOUBLE);
+            if ((borders & BORDER_RIGHT) != 0) timeCellStyle.setBorderRight(BorderStyle.THIN);
+            cellStylesTimeCell[borders] = timeCellStyle;
+            cellStylesDivisorLabel[borders] = createBorderedStyle(borders, boldFont, HorizontalAlignment.RIGHT);
+            cellStylesDivisorValue[borders] = createBorderedStyle(borders, dropDownFont, HorizontalAlignment.RIGHT);
+            cellStylesLegendValue[borders] = createBorderedStyle(borders, smallItalicFont, HorizontalAlignment.CENTER);
+            cellStylesLegendUnit[borders] = createBorderedStyle(borders, boldItalicFont, HorizontalAlignment.CENTER);
+        }
+    }
+
+    /**
+     * Translates passed data to .xlsx file format and tries to save it in the output file,
+     * see {@link #setOutputFile(File)}.
+     *
+     * @param data analysis results in format, described in {@link Analyzer#getAnalysisResult()}
+     * @param lengthsList array sizes, which where used in analysis
+     * @return file in .xlsx format
+     * @throws IOException see {@link FileOutputStream} exceptions section
+     */
+    public File getOutputFile(NavigableMap<String, NavigableMap<String, TimeStatistics[]>> data, int[] lengthsList)
+            throws IOException {
+        int tableSize = data.firstEntry().getValue().size();
+        int divRowIndex = tableSize + 3;
+        String divisorReference = "/" + CellReference.convertNumToColString(divFirstCellIndex + 2) + (divRowIndex + 1);
+        ChartDataSource<Number> xAxis = DataSources.fromArray(Arrays.stream(lengthsList).boxed().toArray(Integer[]::new));
+
+        workbook.setCompressTempFiles(true);
+        initFormatting();
+
+        for (String filler : data.keySet()) {
+            SXSSFSheet sheet = workbook.createSheet(filler.substring(3));
+            NavigableMap<String, TimeStatistics[]> fillerData = data.get(filler);
+
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < lengthsList.length; i++) {
+                Cell headerCell = headerRow.createCell(i + 1);
+                headerCell.setCellStyle(cellStyleTopHeader);
+                headerCell.setCellValue((double) lengthsList[i]);
+                sheet.setColumnWidth(i + 1, tableColWidth);
+            }
+
+            int rowInd = 1;
+            int maxNameLength = 0;
+            boolean hasSkippedCells = false;
+            boolean hasFailedCells = false;
+            for (String sorter : fillerData.keySet()) {
+                Row sorterRow = sheet.createRow(rowInd);
+                Cell sorterNameCell = sorterRow.createCell(0);
+                sorterNameCell.setCellStyle(cellStyleLeftHeader);
+                String sorterName = sorter.replace("Sorter", "");
+                sorterNameCell.setCellValue(sorterName);
+                maxNameLength = Math.max(maxNameLength, sorterName.length());
+                TimeStatistics[] sorterTimeStatistics = fillerData.get(sorter);
+                int rowBorders = (rowInd == 1 ? BORDER_TOP : 0) | (rowInd == tableSize ? BORDER_BOTTOM : 0);
+                for (int i = 0; i < sorterTimeStatistics.length; i++) {
+                    Cell timeCell = sorterRow.createCell(i + 1);
+                    if (sorterTimeStatistics[i] == null || sorterTimeStatistics[i].isFailed()) {
+                        timeCell.setCellFormula("NA()");
+                        timeCell.setCellErrorValue(FormulaError.NA.getCode());
+                        hasFailedCells = true;
+                    } else if (sorterTimeStatistics[i].isSkipped()) {
+                        timeCell.setCellFormula("NA()");
+                        timeCell.setCellErrorValue(FormulaError.NA.getCode());
+                        hasSkippedCells = true;
+                    } else {
+                        long timeValue = sorterTimeStatistics[i].getMedian();
+                        timeCell.setCellFormula(timeValue + divisorReference);
+                        timeCell.setCellValue(timeValue);
+                    }
+                    timeCell.setCellStyle(cellStylesTimeCell[rowBorders | (i == 0 ? BORDER_LEFT : 0)
+                            | (i == sorterTimeStatistics.length - 1 ? BORDER_RIGHT : 0)]);
+                }
+                rowInd++;
+            }
+            sheet.setColumnWidth(0, (maxNameLength + 3) * 300);
+
+            createDivDropDownList(sheet, divRowIndex, hasSkippedCells, hasFailedCells);
+            createDataChart(sheet, fillerData, xAxis, tableSize);
+        }
+        if (memoryStatistics != null) {
+            MetricsSheet.create(workbook, MetricsSheet.MEMORY_SHEET_NAME, MetricsSheet.MEMORY_HEADERS,
+                    memoryStatistics, lengthsList, cellStyleTopHeader, memory -> new long[]{memory.getAllocatedBytes(),
+                            memory.getGcCount(), memory.getGcTime(), memory.getGcAffectedRuns()});
+        }
+        if (operationCounts != null) {
+            MetricsSheet.create(workbook, MetricsSheet.OPERATIONS_SHEET_NAME, MetricsSheet.OPERATIONS_HEADERS,
+                    operationCounts, lengthsList, cellStyleTopHeader, counts -> new long[]{counts.getComparisons(),
+                            counts.getMoves(), counts.getSwaps(), counts.getAllocatedElements()});
+        }
+
+        try (FileOutputStream out = new FileOutputStream(outputFile)) {
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+        }
+        return outputFile;
+    }
+
+    /**
+     * Creates an area for possibility to change table divisor to convert table values to another time unit,
+     * and a note about skipped and failed cells, if there are any.
+     */
+    private void createDivDropDownList(SXSSFSheet sheet, int divRowIndex, boolean hasSkippedCells,
+                                       boolean hasFailedCells) {
+        String[] DLItems = {"1 000 000 000", "1 000 000", "100 000", "10 000", "1 000", "100", "10", "1"};
+        String[] legendContents = {"10\u2079", "s", "10\u2076", "ms", "1", "ns"};
+        int outline = BORDER_TOP | BORDER_BOTTOM;
+
+        for (int i = divRowIndex - 1, l = 0; i <= divRowIndex + 1; i++, l += 2) {
+            Row row = sheet.createRow(i);
+            if (i == divRowIndex) {
+                Cell cell = row.createCell(divFirstCellIndex);
+                cell.setCellValue("Table divisor:");
+                cell.setCellStyle(cellStylesDivisorLabel[outline | BORDER_LEFT]);
+                row.createCell(divFirstCellIndex + 1).setCellStyle(cellStylesDivisorLabel[outline]);
+                cell = row.createCell(divFirstCellIndex + 2);
+                cell.setCellValue(1000000);
+                cell.setCellStyle(cellStylesDivisorValue[outline]);
+                row.createCell(divFirstCellIndex + 3).setCellStyle(cellStylesDivisorValue[outline | BORDER_RIGHT]);
+            }
+            if (i == divRowIndex + 1 && (hasSkippedCells || hasFailedCells)) {
+                Cell noteCell = row.createCell(divFirstCellIndex);
+                noteCell.setCellValue(ExcelExport.getNote(hasSkippedCells, hasFailedCells));
+                noteCell.setCellStyle(cellStyleNote);
+            }
+            Cell cell = row.createCell(divLegendFirstCellIndex);
+            cell.setCellValue(legendContents[l]);
+            cell.setCellStyle(cellStylesLegendValue[outline | BORDER_LEFT]);
+            cell = row.createCell(divLegendFirstCellIndex + 1);
+            cell.setCellValue(legendContents[l + 1]);
+            cell.setCellStyle(cellStylesLegendUnit[outline | BORDER_RIGHT]);
+        }
+        sheet.addMergedRegion(new CellRangeAddress(divRowIndex, divRowIndex, divFirstCellIndex, divFirstCellIndex + 1));
+        sheet.addMergedRegion(new CellRangeAddress(divRowIndex, divRowIndex, divFirstCellIndex + 2, divFirstCellIndex + 3));
+
+        DataValidationHelper dvh = sheet.getDataValidationHelper();
+        DataValidation dataValidation = dvh.createValidation(dvh.createExplicitListConstraint(DLItems),
+                new CellRangeAddressList(divRowIndex, divRowIndex, divFirstCellIndex + 2, divFirstCellIndex + 2));
+        dataValidation.setShowPromptBox(true);
+        dataValidation.setEmptyCellAllowed(false);
+        sheet.addValidationData(dataValidation);
+    }
+
+    /**
+     * Creates a chart of sorting time vs. array size for all sorters of the sheet.
+     * Chart series reference table cells, so flushed rows are not needed for chart creation.
+     */
+    private void createDataChart(SXSSFSheet sheet, NavigableMap<String, TimeStatistics[]> fillerData,
+                                 ChartDataSource<Number> xAxis, int tableSize) {
+        Drawing<?> drawing = sheet.createDrawingPatriarch();
+        ClientAnchor anchor = drawing.createAnchor(0, 0, 0, 0, 0, tableSize + 6, 14, tableSize + 22);
+        XSSFChart dataChart = (XSSFChart) drawing.createChart(anchor);
+        dataChart.setTitleText("Sorting Time vs. Array Length");
+        dataChart.getOrCreateLegend().setPosition(LegendPosition.BOTTOM);
+        LineChartData lineChartData = dataChart.getChartDataFactory().createLineChartData();
+        ChartAxis bottomAxis = dataChart.getChartAxisFactory().createCategoryAxis(AxisPosition.BOTTOM);
+        ValueAxis leftAxis = dataChart.getChartAxisFactory().createValueAxis(AxisPosition.LEFT);
+        leftAxis.setCrosses(AxisCrosses.AUTO_ZERO);
+
+        int rowInd = 1;
+        for (String sorter : fillerData.keySet()) {
+            ChartDataSource<Number> yAxis = DataSources.fromNumericCellRange(sheet,
+                    new CellRangeAddress(rowInd, rowInd, 1, fillerData.get(sorter).length));
+            lineChartData.addSeries(xAxis, yAxis).setTitle(sorter);
+            rowInd++;
+        }
+        dataChart.plot(lineChartData, bottomAxis, leftAxis);
+    }
+}
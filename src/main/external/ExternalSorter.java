@@ -0,0 +1,203 @@
+package main.external;
+
+import main.sorters.Sorter;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class for sorting binary files of int values, that do not fit in memory.
+ * <p>
+ * Sorting is performed in two phases:
+ * <ul>
+ *     <li>The file is read in chunks, every chunk is sorted by the passed in-memory {@link Sorter}
+ *     and written to a temporary file as a sorted run;</li>
+ *     <li>Runs are merged by groups of up to {@code fanIn} runs with {@link LoserTree}, until a single run is left,
+ *     which is written to the output file.</li>
+ * </ul>
+ * All files are read and written through {@link java.nio.channels.FileChannel} and direct buffers.
+ * Memory budget limits the size of the chunk array and of all merge buffers, the chunk takes half of the budget,
+ * so that sorters with auxiliary arrays of the chunk size stay within the budget too.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public class ExternalSorter {
+    private static final int MIN_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_BUFFER_SIZE = 64 * 1024 * 1024;
+
+    private final Sorter chunkSorter;
+    private long memoryBudget = 256L * 1024 * 1024;
+    private int fanIn = 64;
+    private Path tempDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+    private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+
+    /**
+     * Creates external sorter, that sorts chunks with the passed sorter.
+     *
+     * @param chunkSorter in-memory sorter for chunks
+     */
+    public ExternalSorter(Sorter chunkSorter) {
+        this.chunkSorter = chunkSorter;
+    }
+
+    /**
+     * Sets maximum memory for the chunk array and merge buffers, 256 MiB by default.
+     *
+     * @param memoryBudget memory budget in bytes, must be at least 1 MiB
+     * @throws IllegalArgumentException if the budget is less than 1 MiB
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        if (memoryBudget < 1024 * 1024) {
+            throw new IllegalArgumentException("Memory budget must be at least 1 MiB");
+        }
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Sets maximum number of runs, that are merged at once, 64 by default.
+     *
+     * @param fanIn number of runs, must be greater than 1
+     * @throws IllegalArgumentException if fan-in is less than 2
+     */
+    public void setFanIn(int fanIn) {
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be greater than 1");
+        }
+        this.fanIn = fanIn;
+    }
+
+    /**
+     * Sets directory for temporary run files, "java.io.tmpdir" by default.
+     *
+     * @param tempDirectory existing directory
+     */
+    public void setTempDirectory(Path tempDirectory) {
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Sets byte order of int values in input, output and run files, {@link ByteOrder#BIG_ENDIAN} by default,
+     * which is the order of {@link java.io.DataOutputStream}.
+     *
+     * @param byteOrder byte order of values
+     */
+    public void setByteOrder(ByteOrder byteOrder) {
+        this.byteOrder = byteOrder;
+    }
+
+    /**
+     * Sorts int values from the input file in ascending order and writes them to the output file.
+     *
+     * @param input binary file with int values, which size is a multiple of 4 bytes
+     * @param output file for sorted values, is created or replaced
+     * @throws IOException if files cannot be read or written
+     */
+    public void sort(Path input, Path output) throws IOException {
+        List<Path> tempFiles = new ArrayList<>();
+        try {
+            List<Path> runs = createRuns(input, tempFiles);
+            while (runs.size() > fanIn) {
+                List<Path> mergedRuns = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                    Path mergedRun = createTempFile(tempFiles);
+                    merge(group, mergedRun);
+                    mergedRuns.add(mergedRun);
+                    for (Path run : group) {
+                        Files.delete(run);
+                    }
+                }
+                runs = mergedRuns;
+            }
+            if (runs.size() == 1) {
+                Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                merge(runs, output);
+            }
+        } finally {
+            for (Path tempFile : tempFiles) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Reads the input file by chunks, sorts them and writes every chunk to a new temporary run file.
+     *
+     * @param input binary file with int values
+     * @param tempFiles list, to which created temporary files are added
+     * @return sorted run files
+     * @throws IOException if files cannot be read or written
+     */
+    private List<Path> createRuns(Path input, List<Path> tempFiles) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        int bufferSize = getBufferSize(memoryBudget / 8);
+        long chunkLength = Math.min(Integer.MAX_VALUE - 8, (memoryBudget / 2 - 2L * bufferSize) / Integer.BYTES);
+        int[] chunk = new int[(int) Math.min(chunkLength, Math.max(1, Files.size(input) / Integer.BYTES))];
+        try (IntChannelReader reader = new IntChannelReader(input, bufferSize, byteOrder)) {
+            int length;
+            while ((length = reader.read(chunk, 0, chunk.length)) > 0) {
+                int[] sortedChunk = chunkSorter.doSorting(length == chunk.length ? chunk : Arrays.copyOf(chunk, length));
+                Path run = createTempFile(tempFiles);
+                try (IntChannelWriter writer = new IntChannelWriter(run, bufferSize, byteOrder)) {
+                    writer.write(sortedChunk, 0, length);
+                }
+                runs.add(run);
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Merges the passed sorted runs to the output file.
+     *
+     * @param runs sorted run files, an empty output file is written if there are no runs
+     * @param output file for merged values
+     * @throws IOException if files cannot be read or written
+     */
+    private void merge(List<Path> runs, Path output) throws IOException {
+        int bufferSize = getBufferSize(memoryBudget / (runs.size() + 1));
+        IntChannelReader[] readers = new IntChannelReader[runs.size()];
+        try (IntChannelWriter writer = new IntChannelWriter(output, bufferSize, byteOrder)) {
+            long[] keys = new long[runs.size()];
+            for (int i = 0; i < readers.length; i++) {
+                readers[i] = new IntChannelReader(runs.get(i), bufferSize, byteOrder);
+                keys[i] = readers[i].hasNext() ? readers[i].next() : LoserTree.EXHAUSTED;
+            }
+            if (readers.length == 0) {
+                return;
+            }
+            LoserTree loserTree = new LoserTree(keys);
+            long key;
+            while ((key = loserTree.getWinnerKey()) != LoserTree.EXHAUSTED) {
+                writer.write((int) key);
+                IntChannelReader reader = readers[loserTree.getWinner()];
+                loserTree.replaceWinnerKey(reader.hasNext() ? reader.next() : LoserTree.EXHAUSTED);
+            }
+        } finally {
+            for (IntChannelReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    private static int getBufferSize(long share) {
+        return (int) Math.max(MIN_BUFFER_SIZE, Math.min(MAX_BUFFER_SIZE, share));
+    }
+
+    private Path createTempFile(List<Path> tempFiles) throws IOException {
+        Path tempFile = Files.createTempFile(tempDirectory, "run", ".bin");
+        tempFiles.add(tempFile);
+        return tempFile;
+    }
+}
@@ -0,0 +1,95 @@
+package main.external;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential reader of int values from a binary file through {@link FileChannel} and a direct buffer.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+final class IntChannelReader implements AutoCloseable {
+    private final FileChannel channel;
+    private final ByteBuffer byteBuffer;
+    private IntBuffer intBuffer;
+    private boolean endOfFile;
+
+    /**
+     * Opens the file for reading.
+     *
+     * @param file binary file with int values
+     * @param bufferSize size of the direct buffer in bytes
+     * @param byteOrder byte order of the values in the file
+     * @throws IOException if the file cannot be opened
+     */
+    IntChannelReader(Path file, int bufferSize, ByteOrder byteOrder) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        byteBuffer = ByteBuffer.allocateDirect(Math.max(Integer.BYTES, bufferSize & -Integer.BYTES)).order(byteOrder);
+        intBuffer = byteBuffer.asIntBuffer();
+        intBuffer.limit(0);
+    }
+
+    /**
+     * Checks if there are more values in the file.
+     *
+     * @return true if the next value can be read
+     * @throws IOException if the file cannot be read or its size is not a multiple of int size
+     */
+    boolean hasNext() throws IOException {
+        if (!intBuffer.hasRemaining()) {
+            fill();
+        }
+        return intBuffer.hasRemaining();
+    }
+
+    /**
+     * Returns the next value, must be called after {@link #hasNext()} returned true.
+     */
+    int next() {
+        return intBuffer.get();
+    }
+
+    /**
+     * Reads values to the passed array until it is filled or the end of file is reached.
+     *
+     * @param dst array for values
+     * @param offset index of the first value in the array
+     * @param length maximum number of values to be read
+     * @return number of read values, 0 if the end of file is reached
+     * @throws IOException if the file cannot be read or its size is not a multiple of int size
+     */
+    int read(int[] dst, int offset, int length) throws IOException {
+        int read = 0;
+        while (read < length && hasNext()) {
+            int count = Math.min(length - read, intBuffer.remaining());
+            intBuffer.get(dst, offset + read, count);
+            read += count;
+        }
+        return read;
+    }
+
+    private void fill() throws IOException {
+        byteBuffer.clear();
+        while (!endOfFile && byteBuffer.hasRemaining()) {
+            if (channel.read(byteBuffer) < 0) {
+                endOfFile = true;
+            }
+        }
+        if (byteBuffer.position() % Integer.BYTES != 0) {
+            throw new IOException("File size is not a multiple of " + Integer.BYTES + " bytes");
+        }
+        byteBuffer.flip();
+        intBuffer = byteBuffer.asIntBuffer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
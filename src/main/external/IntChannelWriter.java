@@ -0,0 +1,73 @@
+package main.external;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential writer of int values to a binary file through {@link FileChannel} and a direct buffer.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+final class IntChannelWriter implements AutoCloseable {
+    private final FileChannel channel;
+    private final ByteBuffer byteBuffer;
+    private final IntBuffer intBuffer;
+
+    /**
+     * Creates or truncates the file for writing.
+     *
+     * @param file binary file for int values
+     * @param bufferSize size of the direct buffer in bytes
+     * @param byteOrder byte order of the values in the file
+     * @throws IOException if the file cannot be opened
+     */
+    IntChannelWriter(Path file, int bufferSize, ByteOrder byteOrder) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        byteBuffer = ByteBuffer.allocateDirect(Math.max(Integer.BYTES, bufferSize & -Integer.BYTES)).order(byteOrder);
+        intBuffer = byteBuffer.asIntBuffer();
+    }
+
+    void write(int value) throws IOException {
+        if (!intBuffer.hasRemaining()) {
+            flush();
+        }
+        intBuffer.put(value);
+    }
+
+    void write(int[] src, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (!intBuffer.hasRemaining()) {
+                flush();
+            }
+            int count = Math.min(length, intBuffer.remaining());
+            intBuffer.put(src, offset, count);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    private void flush() throws IOException {
+        byteBuffer.clear();
+        byteBuffer.limit(intBuffer.position() * Integer.BYTES);
+        while (byteBuffer.hasRemaining()) {
+            channel.write(byteBuffer);
+        }
+        intBuffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package main.external;
+
+/**
+ * Tournament tree of losers for k-way merging.
+ * <p>
+ * Keeps current keys of k sources and finds the source with the smallest key in O(log k) comparisons after
+ * the key of the previous winner is replaced: only the path from the winner's leaf to the root is replayed.
+ * Keys are long values, so that {@link #EXHAUSTED} is bigger than any int element.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+final class LoserTree {
+    /**
+     * Key of a source, that has no more elements.
+     */
+    static final long EXHAUSTED = Long.MAX_VALUE;
+
+    private final int k;
+    private final long[] keys;
+    private final int[] tree;
+
+    /**
+     * Creates tree for sources with the passed initial keys.
+     *
+     * @param initialKeys first key of every source or {@link #EXHAUSTED} for empty sources, at least one key
+     */
+    LoserTree(long[] initialKeys) {
+        k = initialKeys.length;
+        keys = new long[k + 1];
+        System.arraycopy(initialKeys, 0, keys, 0, k);
+        keys[k] = Long.MIN_VALUE;               // sentinel, that loses to nobody while the tree is built
+        tree = new int[k];
+        for (int i = 0; i < k; i++) {
+            tree[i] = k;
+        }
+        for (int i = k - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+
+    /**
+     * Returns index of the source with the smallest key.
+     */
+    int getWinner() {
+        return tree[0];
+    }
+
+    /**
+     * Returns the smallest key, {@link #EXHAUSTED} if all sources are exhausted.
+     */
+    long getWinnerKey() {
+        return keys[tree[0]];
+    }
+
+    /**
+     * Replaces key of the current winner with the next key of its source and finds the new winner.
+     *
+     * @param key next key of the winner source or {@link #EXHAUSTED}
+     */
+    void replaceWinnerKey(long key) {
+        int winner = tree[0];
+        keys[winner] = key;
+        replay(winner);
+    }
+
+    private void replay(int source) {
+        for (int node = (source + k) >> 1; node > 0; node >>= 1) {
+            if (keys[source] > keys[tree[node]]) {
+                int loser = source;
+                source = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = source;
+    }
+}
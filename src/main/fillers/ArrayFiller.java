@@ -0,0 +1,23 @@
+package main.fillers;
+
+/**
+ * Array generator, that fills a caller-supplied array, so that generation does not allocate memory.
+ * <p>
+ * Implementations must be thread-safe and deterministic: the same seed and array length
+ * must always produce the same array contents.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ArrayFiller {
+
+    /**
+     * Fills the whole passed array.
+     *
+     * @param target array to be filled
+     * @param seed seed of random values, ignored by generators without randomness
+     * @return the passed array
+     */
+    int[] fill(int[] target, long seed);
+}
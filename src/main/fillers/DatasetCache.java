@@ -0,0 +1,145 @@
+package main.fillers;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-memory cache of generated arrays, so that arrays are not generated again by repeated analyses.
+ * <p>
+ * Arrays are identified by generator name, length and seed. Distribution parameters of fillers are
+ * their compile-time defaults, see {@link Fillers}, so a generator with other parameters must have its own name.
+ * The cache is bounded
+ * by total size of cached arrays, least recently used arrays are evicted first. An array, that is bigger
+ * than the whole cache, is generated and returned without caching.
+ * <p>
+ * Cached arrays are shared by all callers and must not be modified. All methods are thread-safe.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public class DatasetCache {
+    private final long maxBytes;
+    private final LinkedHashMap<Key, int[]> datasets = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxBytes maximum total size of cached arrays in bytes, must be greater than 0
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public DatasetCache(long maxBytes) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Cache size must be greater than 0");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached array or generates it with the passed filler and caches it.
+     * <p>
+     * Array is generated without holding the cache lock, so that threads, that request different arrays,
+     * do not wait for each other. If two threads request the same missing array, both generate it.
+     *
+     * @param generatorName name of the generator, e.g. filler method name
+     * @param length array length
+     * @param seed seed of the array
+     * @param filler filler, that generates the array on a cache miss
+     * @return cached or generated array, which must not be modified
+     */
+    public int[] get(String generatorName, int length, long seed, ArrayFiller filler) {
+        Key key = new Key(generatorName, length, seed);
+        synchronized (this) {
+            int[] dataset = datasets.get(key);
+            if (dataset != null) {
+                hits++;
+                return dataset;
+            }
+            misses++;
+        }
+        int[] dataset = filler.fill(new int[length], seed);
+        long datasetBytes = (long) length * Integer.BYTES;
+        if (datasetBytes > maxBytes) {
+            return dataset;
+        }
+        synchronized (this) {
+            int[] previous = datasets.put(key, dataset);
+            if (previous == null) {
+                bytes += datasetBytes;
+            }
+            Iterator<Map.Entry<Key, int[]>> eldest = datasets.entrySet().iterator();
+            while (bytes > maxBytes) {
+                bytes -= (long) eldest.next().getValue().length * Integer.BYTES;
+                eldest.remove();
+                evictions++;
+            }
+        }
+        return dataset;
+    }
+
+    /**
+     * Removes all arrays from the cache, counters are not reset.
+     */
+    public synchronized void clear() {
+        datasets.clear();
+        bytes = 0;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns total size of cached arrays.
+     *
+     * @return size in bytes
+     */
+    public synchronized long getSize() {
+        return bytes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d hits, %d misses, %d evictions, %d of %d MiB used",
+                hits, misses, evictions, bytes >> 20, maxBytes >> 20);
+    }
+
+    private static final class Key {
+        private final String generatorName;
+        private final int length;
+        private final long seed;
+
+        Key(String generatorName, int length, long seed) {
+            this.generatorName = generatorName;
+            this.length = length;
+            this.seed = seed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return length == key.length && seed == key.seed
+                    && generatorName.equals(key.generatorName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(generatorName, length, seed);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package main.fillers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Binary file of generated arrays, so that analyses in different processes and on different hosts
+ * sort byte-identical arrays without generating them.
+ * <p>
+ * File structure:
+ * <ul>
+ *     <li>Magic number {@value #MAGIC} in the byte order of the file, which is the native order of the host,
+ *     that wrote the file, followed by format version (int) and number of datasets (int);</li>
+ *     <li>Index: for every dataset filler name (unsigned short byte length and UTF-8 bytes), array length (int),
+ *     array seed (long) and offset of the array from the file start (long);</li>
+ *     <li>Arrays, every array starts at an offset, aligned to 8 bytes.</li>
+ * </ul>
+ * Arrays are read through read-only memory-mapped buffers, which are created on the first request of an array.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public class DatasetCorpus implements Closeable {
+    static final int MAGIC = 0x53444331;
+    static final int VERSION = 1;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ByteOrder byteOrder;
+    private final Map<Key, Long> offsets;
+    private final Map<Key, IntBuffer> mappedDatasets = new HashMap<>();
+
+    private DatasetCorpus(Path file, FileChannel channel, ByteOrder byteOrder, Map<Key, Long> offsets) {
+        this.file = file;
+        this.channel = channel;
+        this.byteOrder = byteOrder;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Generates arrays of all passed fillers and lengths and writes them to a new corpus file.
+     * Every array is generated with seed {@link Fillers#seed(long, String, int, int)} of repetition 0,
+     * as {@link main.analyzer.Analyzer} generates arrays.
+     *
+     * @param file corpus file, is created or replaced
+     * @param fillers fillers by names
+     * @param lengths array lengths
+     * @param baseSeed analysis seed
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, Map<String, ArrayFiller> fillers, int[] lengths, long baseSeed)
+            throws IOException {
+        List<byte[]> names = new ArrayList<>();
+        int headerSize = 3 * Integer.BYTES;
+        for (String fillerName : fillers.keySet()) {
+            byte[] name = fillerName.getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            headerSize += lengths.length * (Short.BYTES + name.length + Integer.BYTES + 2 * Long.BYTES);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(headerSize).order(ByteOrder.nativeOrder());
+        header.putInt(MAGIC).putInt(VERSION).putInt(fillers.size() * lengths.length);
+        long offset = align(headerSize);
+        int nameIndex = 0;
+        for (String fillerName : fillers.keySet()) {
+            byte[] name = names.get(nameIndex++);
+            for (int length : lengths) {
+                header.putShort((short) name.length).put(name).putInt(length)
+                        .putLong(Fillers.seed(baseSeed, fillerName, length, 0)).putLong(offset);
+                offset = align(offset + (long) length * Integer.BYTES);
+            }
+        }
+        header.flip();
+
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(out, header, 0);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.nativeOrder());
+            IntBuffer intBuffer = buffer.asIntBuffer();
+            int[][] targets = new int[lengths.length][];
+            offset = align(headerSize);
+            for (Map.Entry<String, ArrayFiller> filler : fillers.entrySet()) {
+                for (int i = 0; i < lengths.length; i++) {
+                    int length = lengths[i];
+                    if (targets[i] == null) {
+                        targets[i] = new int[length];
+                    }
+                    int[] target = targets[i];
+                    filler.getValue().fill(target, Fillers.seed(baseSeed, filler.getKey(), length, 0));
+                    for (int from = 0; from < length; from += intBuffer.capacity()) {
+                        int count = Math.min(intBuffer.capacity(), length - from);
+                        intBuffer.clear();
+                        intBuffer.put(target, from, count);
+                        buffer.clear().limit(count * Integer.BYTES);
+                        writeFully(out, buffer, offset + (long) from * Integer.BYTES);
+                    }
+                    offset = align(offset + (long) length * Integer.BYTES);
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens a corpus file and reads its index.
+     *
+     * @param file corpus file
+     * @return opened corpus, that must be closed after use
+     * @throws IOException if the file cannot be read or has unknown format
+     */
+    public static DatasetCorpus open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer prefix = ByteBuffer.allocate(3 * Integer.BYTES);
+            readFully(channel, prefix, 0);
+            ByteOrder byteOrder;
+            int magic = prefix.getInt(0);
+            if (magic == MAGIC) {
+                byteOrder = ByteOrder.BIG_ENDIAN;
+            } else if (magic == Integer.reverseBytes(MAGIC)) {
+                byteOrder = ByteOrder.LITTLE_ENDIAN;
+            } else {
+                throw new IOException("Unknown format of file " + file);
+            }
+            prefix.order(byteOrder);
+            if (prefix.getInt(Integer.BYTES) != VERSION) {
+                throw new IOException("Unsupported version of file " + file);
+            }
+            int datasetsCount = prefix.getInt(2 * Integer.BYTES);
+
+            MappedByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(channel.size(), Integer.MAX_VALUE));
+            index.order(byteOrder).position(3 * Integer.BYTES);
+            Map<Key, Long> offsets = new HashMap<>();
+            for (int i = 0; i < datasetsCount; i++) {
+                byte[] name = new byte[index.getShort() & 0xFFFF];
+                index.get(name);
+                int length = index.getInt();
+                long seed = index.getLong();
+                offsets.put(new Key(new String(name, StandardCharsets.UTF_8), length, seed), index.getLong());
+            }
+            return new DatasetCorpus(file, channel, byteOrder, offsets);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks if the corpus contains the array.
+     *
+     * @param fillerName name of the filler method
+     * @param length array length
+     * @param seed seed of the array
+     * @return true if the array is in the corpus
+     */
+    public boolean contains(String fillerName, int length, long seed) {
+        return offsets.containsKey(new Key(fillerName, length, seed));
+    }
+
+    /**
+     * Copies the array from the corpus to the passed array.
+     *
+     * @param fillerName name of the filler method
+     * @param seed seed of the array
+     * @param target array, which length is the length of the requested array
+     * @return the passed array
+     * @throws IOException if the corpus does not contain the array or the array cannot be mapped
+     */
+    public synchronized int[] load(String fillerName, long seed, int[] target) throws IOException {
+        Key key = new Key(fillerName, target.length, seed);
+        IntBuffer dataset = mappedDatasets.get(key);
+        if (dataset == null) {
+            Long offset = offsets.get(key);
+            if (offset == null) {
+                throw new IOException("Corpus " + file + " does not contain array " + fillerName
+                        + " of length " + target.length + " with seed " + seed);
+            }
+            dataset = channel.map(FileChannel.MapMode.READ_ONLY, offset, (long) target.length * Integer.BYTES)
+                    .order(byteOrder).asIntBuffer();
+            mappedDatasets.put(key, dataset);
+        }
+        dataset.duplicate().get(target);
+        return target;
+    }
+
+    /**
+     * Returns the corpus file.
+     *
+     * @return path of the file, from which the corpus was opened or to which it was written
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns number of arrays in the corpus.
+     *
+     * @return number of arrays
+     */
+    public int size() {
+        return offsets.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        mappedDatasets.clear();
+        channel.close();
+    }
+
+    private static long align(long offset) {
+        return (offset + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int count = channel.read(buffer, position);
+            if (count < 0) {
+                throw new IOException("Unexpected end of corpus file");
+            }
+            position += count;
+        }
+    }
+
+    private static final class Key {
+        private final String fillerName;
+        private final int length;
+        private final long seed;
+
+        Key(String fillerName, int length, long seed) {
+            this.fillerName = fillerName;
+            this.length = length;
+            this.seed = seed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return length == key.length && seed == key.seed && fillerName.equals(key.fillerName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fillerName, length, seed);
+        }
+    }
+}
@@ -6,26 +6,50 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
-import java.util.Random;
-import java.util.TreeMap;
+import java.util.Arrays;
+import java.util.NavigableMap;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
 
 /**
  * Class with static methods for different types of array generation.
  * <p>
  * Due to {@link Analyzer#startAnalysis(int, int, int)}} use of reflection, all array filling methods
  * must be annotated with @Filler annotation, defined in this class, to be used during analysis.
+ * Annotated methods must match {@link ArrayFiller#fill(int[], long)}: they fill a caller-supplied array
+ * and take a seed for random values, see {@link #seed(long, String, int, int)}.
+ * Permutation fillers have a convenience overload, that takes array size and uses {@link #DEFAULT_SEED}.
+ * Fillers of other distributions have an overload with distribution parameters, annotated methods use
+ * default parameter values.
+ * <p>
+ * Methods have no shared state and use their own {@link SplittableRandom}, so they may be called concurrently
+ * and always generate the same array for the same seed. Arrays of {@value #PARALLEL_THRESHOLD} or more elements
+ * are filled in parallel, except for shuffling, which is sequential by nature. Independent random values
+ * are generated by chunks of {@value #RANDOM_CHUNK_SIZE} elements with separate generators, so that the result
+ * does not depend on the number of threads.
  *
  * For correct displaying of the array generation type name
- * in the {@link main.excel.ExcelExport#getOutputFile(TreeMap, int[])} file,
+ * in the {@link main.excel.ExcelExport#getOutputFile(NavigableMap, int[])} file,
  * filler method's names must consist of word "get" and a following name of array generation type.
  *
  * @author Dmytro Storozhenko
- * @version 1.0
+ * @version 2.1
  */
 public class Fillers {
+    public static final long DEFAULT_SEED = 42;
+    public static final double DEFAULT_ZIPF_EXPONENT = 1.0;
+    public static final int DEFAULT_UNIQUE_COUNT = 16;
+    public static final int DEFAULT_TEETH_COUNT = 8;
+    public static final int DEFAULT_BLOCKS_COUNT = 16;
+    static final int PARALLEL_THRESHOLD = 1 << 20;
+    private static final int RANDOM_CHUNK_SIZE = 1 << 16;
 
-    private static int length;
-    private static int[] array;
+    /**
+     * Generator of an array element from a random generator, that is used only for the current chunk.
+     */
+    private interface RandomElement {
+        int next(SplittableRandom rnd);
+    }
 
     /**
      * Must be used to annotate methods, which will be used in sorting algorithms analysis.
@@ -35,20 +59,309 @@ public class Fillers {
     public @interface Filler {
     }
 
+    /**
+     * Returns seed for an array, so that every array of an analysis gets its own seed,
+     * that does not depend on the order of generation.
+     *
+     * @param baseSeed seed of the whole analysis
+     * @param fillerName name of the filler method
+     * @param length array size
+     * @param repetition index of the array among arrays of the same filler and size
+     * @return seed of the array
+     */
+    public static long seed(long baseSeed, String fillerName, int length, int repetition) {
+        long seed = mix(baseSeed ^ fillerName.hashCode());
+        seed = mix(seed ^ length);
+        return mix(seed ^ repetition);
+    }
+
+    /**
+     * Finalization function of 64-bit MurmurHash3, that spreads every input bit over all output bits.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Method fills the passed array with whole numbers from 1 to array size, sorted in ascending order.
+     *
+     * @param target array to be filled
+     * @param seed not used
+     * @return the passed array
+     */
+    @Filler
+    public static int[] getSorted(int[] target, long seed) {
+        if (target.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(target, i -> i + 1);
+        } else {
+            for (int i = 0; i < target.length; i++) {
+                target[i] = i + 1;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Method fills the passed array with whole numbers from 1 to array size - 1, sorted in ascending order,
+     * and random number chosen from 1 to array size as last element.
+     *
+     * @param target array to be filled
+     * @param seed seed of the last element
+     * @return the passed array
+     */
+    @Filler
+    public static int[] getNearlySorted(int[] target, long seed) {
+        int length = target.length;
+        if (length == 0) {
+            return target;
+        }
+        getSorted(target, seed);
+        target[length - 1] = length == 1 ? 1 : new SplittableRandom(seed).nextInt(1, length);
+        return target;
+    }
+
+    /**
+     * Method fills the passed array with whole numbers from 1 to array size, sorted in descending order.
+     *
+     * @param target array to be filled
+     * @param seed not used
+     * @return the passed array
+     */
+    @Filler
+    public static int[] getReversed(int[] target, long seed) {
+        int length = target.length;
+        if (length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(target, i -> length - i);
+        } else {
+            for (int i = 0; i < length; i++) {
+                target[i] = length - i;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Method fills the passed array with whole numbers from 1 to array size, arranged randomly in array
+     * with the Fisher-Yates shuffle.
+     *
+     * @param target array to be filled
+     * @param seed seed of the shuffle
+     * @return the passed array
+     */
+    @Filler
+    public static int[] getRandom(int[] target, long seed) {
+        getSorted(target, seed);
+        SplittableRandom rnd = new SplittableRandom(seed);
+        for (int i = target.length; i > 1; i--) {
+            swap(target, i - 1, rnd.nextInt(i));
+        }
+        return target;
+    }
+
+    /**
+     * Method fills the passed array with keys from 1 to array size, that have Zipf distribution
+     * with the passed exponent: key k occurs approximately {@code k^exponent} times rarer than key 1.
+     * <p>
+     * Keys are generated by inversion of the continuous bounded power-law distribution, rounded down,
+     * which approximates the discrete distribution without a table of probabilities.
+     *
+     * @param target array to be filled
+     * @param seed seed of random keys
+     * @param exponent exponent of the distribution, must be greater or equal to 0
+     * @return the passed array
+     * @throws IllegalArgumentException if the exponent is negative
+     */
+    public static int[] getZipf(int[] target, long seed, double exponent) {
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Zipf exponent must be greater or equal to 0");
+        }
+        int keysCount = Math.max(target.length, 1);
+        if (exponent == 1) {
+            double logKeys = Math.log(keysCount + 1.0);
+            return fillRandom(target, seed, rnd -> Math.min(keysCount, (int) Math.exp(rnd.nextDouble() * logKeys)));
+        }
+        double oneMinusExponent = 1 - exponent;
+        double range = Math.pow(keysCount + 1.0, oneMinusExponent) - 1;
+        return fillRandom(target, seed, rnd -> Math.min(keysCount,
+                (int) Math.pow(rnd.nextDouble() * range + 1, 1 / oneMinusExponent)));
+    }
+
+    /**
+     * Method fills the passed array with keys from 1 to array size, that have Zipf distribution
+     * with exponent {@value #DEFAULT_ZIPF_EXPONENT}, see {@link #getZipf(int[], long, double)}.
+     *
+     * @param target array to be filled
+     * @param seed seed of random keys
+     * @return the passed array
+     */
+    @Filler
+    public static int[] getZipf(int[] target, long seed) {
+        return getZipf(target, seed, DEFAULT_ZIPF_EXPONENT);
+    }
+
+    /**
+     * Method fills the passed array with random whole numbers from 1 to the passed number of unique values.
+     *
+     * @param target array to be filled
+     * @param seed seed of random values
+     * @param uniqueCount number of unique values, must be greater than 0
+     * @return the passed array
+     * @throws IllegalArgumentException if the number of unique values is less than 1
+     */
+    public static int[] getFewUnique(int[] target, long seed, int uniqueCount) {
+        if (uniqueCount < 1) {
+            throw new IllegalArgumentException("Number of unique values must be greater than 0");
+        }
+        return fillRandom(target, seed, rnd -> rnd.nextInt(uniqueCount) + 1);
+    }
+
+    /**
+     * Method fills the passed array with random whole numbers from 1 to {@value #DEFAULT_UNIQUE_COUNT}.
+     *
+     * @param target array to be filled
+     * @param seed seed of random values
+     * @return the passed array
+     */
+    @Filler
+    public static int[] getFewUnique(int[] target, long seed) {
+        return getFewUnique(target, seed, DEFAULT_UNIQUE_COUNT);
+    }
+
+    /**
+     * Method fills the passed array with the passed number of equal ascending runs of whole numbers,
+     * every run starts from 1, the last run may be shorter.
+     *
+     * @param target array to be filled
+     * @param seed not used
+     * @param teethCount number of runs, must be greater than 0
+     * @return the passed array
+     * @throws IllegalArgumentException if the number of runs is less than 1
+     */
+    public static int[] getSawtooth(int[] target, long seed, int teethCount) {
+        if (teethCount < 1) {
+            throw new IllegalArgumentException("Number of teeth must be greater than 0");
+        }
+        int runLength = Math.max(1, (target.length + teethCount - 1) / teethCount);
+        if (target.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(target, i -> i % runLength + 1);
+        } else {
+            for (int i = 0; i < target.length; i++) {
+                target[i] = i % runLength + 1;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Method fills the passed array with {@value #DEFAULT_TEETH_COUNT} ascending runs of whole numbers,
+     * see {@link #getSawtooth(int[], long, int)}.
+     *
+     * @param target array to be filled
+     * @param seed not used
+     * @return the passed array
+     */
+    @Filler
+    public static int[] getSawtooth(int[] target, long seed) {
+        return getSawtooth(target, seed, DEFAULT_TEETH_COUNT);
+    }
+
+    /**
+     * Method fills the first half of the passed array with whole numbers in ascending order from 1
+     * and the second half with the same numbers in descending order.
+     *
+     * @param target array to be filled
+     * @param seed not used
+     * @return the passed array
+     */
+    @Filler
+    public static int[] getOrganPipe(int[] target, long seed) {
+        int length = target.length;
+        if (length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(target, i -> Math.min(i + 1, length - i));
+        } else {
+            for (int i = 0; i < length; i++) {
+                target[i] = Math.min(i + 1, length - i);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Method fills the passed array with whole numbers from 1 to array size, divided into the passed number
+     * of blocks of consecutive sorted numbers, which are arranged randomly in array.
+     *
+     * @param target array to be filled
+     * @param seed seed of the blocks shuffle
+     * @param blocksCount number of blocks, must be greater than 0
+     * @return the passed array
+     * @throws IllegalArgumentException if the number of blocks is less than 1
+     */
+    public static int[] getPartiallySorted(int[] target, long seed, int blocksCount) {
+        if (blocksCount < 1) {
+            throw new IllegalArgumentException("Number of blocks must be greater than 0");
+        }
+        int length = target.length;
+        int blockLength = Math.max(1, (length + blocksCount - 1) / blocksCount);
+        int[] blocks = getRandom(new int[(length + blockLength - 1) / blockLength], seed);
+        int position = 0;
+        for (int block : blocks) {
+            int value = (block - 1) * blockLength + 1;
+            int blockEnd = Math.min(length, value - 1 + blockLength);
+            for (; value <= blockEnd; value++) {
+                target[position++] = value;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Method fills the passed array with {@value #DEFAULT_BLOCKS_COUNT} randomly arranged sorted blocks,
+     * see {@link #getPartiallySorted(int[], long, int)}.
+     *
+     * @param target array to be filled
+     * @param seed seed of the blocks shuffle
+     * @return the passed array
+     */
+    @Filler
+    public static int[] getPartiallySorted(int[] target, long seed) {
+        return getPartiallySorted(target, seed, DEFAULT_BLOCKS_COUNT);
+    }
+
+    /**
+     * Method fills the passed array with independent random elements by chunks, every chunk uses
+     * its own random generator, derived from the seed and chunk index. Chunks of big arrays are filled in parallel.
+     *
+     * @param target array to be filled
+     * @param seed seed of the array
+     * @param element generator of an element
+     * @return the passed array
+     */
+    private static int[] fillRandom(int[] target, long seed, RandomElement element) {
+        int chunksCount = (target.length + RANDOM_CHUNK_SIZE - 1) / RANDOM_CHUNK_SIZE;
+        IntStream chunks = IntStream.range(0, chunksCount);
+        if (target.length >= PARALLEL_THRESHOLD) {
+            chunks = chunks.parallel();
+        }
+        chunks.forEach(chunk -> {
+            SplittableRandom rnd = new SplittableRandom(mix(seed + chunk));
+            int chunkEnd = Math.min(target.length, (chunk + 1) * RANDOM_CHUNK_SIZE);
+            for (int i = chunk * RANDOM_CHUNK_SIZE; i < chunkEnd; i++) {
+                target[i] = element.next(rnd);
+            }
+        });
+        return target;
+    }
+
     /**
      * Method returns an array of whole numbers from 1 to array size, sorted in ascending order.
      *
      * @param num size of the returned array
      * @return array of sorted whole numbers
      */
-    @Filler
     public static int[] getSorted(int num) {
-        length = num;
-        array = new int[length];
-        for (int i = 0; i < length; i++) {
-            array[i] = i + 1;
-        }
-        return array;
+        return getSorted(new int[num], DEFAULT_SEED);
     }
 
     /**
@@ -58,15 +371,8 @@ public class Fillers {
      * @param num size of the returned array
      * @return array of whole numbers
      */
-    @Filler
     public static int[] getNearlySorted(int num) {
-        length = num;
-        array = new int[length];
-        for (int i = 0; i < length - 1; i++) {
-            array[i] = i + 1;
-        }
-        array[length - 1] = (int) (Math.random() * (length - 1) + 1);
-        return array;
+        return getNearlySorted(new int[num], DEFAULT_SEED);
     }
 
     /**
@@ -75,14 +381,8 @@ public class Fillers {
      * @param num size of the returned array
      * @return array of whole numbers, sorted in descending order
      */
-    @Filler
     public static int[] getReversed(int num) {
-        length = num;
-        array = new int[length];
-        for (int i = 0; i < length; i++) {
-            array[i] = length - i;
-        }
-        return array;
+        return getReversed(new int[num], DEFAULT_SEED);
     }
 
     /**
@@ -91,15 +391,8 @@ public class Fillers {
      * @param num size of the returned array
      * @return array of whole numbers
      */
-    @Filler
     public static int[] getRandom(int num) {
-        length = num;
-        array = getSorted(length);
-        Random rnd = new Random();
-        for (int i = array.length; i > 1; i--) {
-            swap(array, i - 1, rnd.nextInt(i));
-        }
-        return array;
+        return getRandom(new int[num], DEFAULT_SEED);
     }
 
     /**
@@ -0,0 +1,66 @@
+package main.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * Flight recording of a whole analysis, that contains events of the analysis ({@link DatasetGenerationEvent},
+ * {@link SortRunEvent}, {@link ExportEvent}) together with JVM events of the "profile" configuration,
+ * such as JIT compilations, safepoints and garbage collections.
+ * <p>
+ * The recording is written to the destination file, when it is closed.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public final class AnalysisRecording implements Closeable {
+
+    /**
+     * System property with the file, to which analyses record their flight recordings by default.
+     */
+    public static final String FILE_PROPERTY = "sorting.jfr.file";
+
+    private final Recording recording;
+
+    private AnalysisRecording(Recording recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Starts a new recording.
+     *
+     * @param destination file, to which the recording is written, is created or replaced
+     * @return started recording
+     * @throws IOException if the configuration cannot be read or the destination is not writable
+     */
+    public static AnalysisRecording start(Path destination) throws IOException {
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration("profile"));
+        } catch (ParseException e) {
+            throw new IOException("Flight recorder configuration cannot be parsed", e);
+        }
+        recording.setName("Sorting Analysis");
+        recording.enable(DatasetGenerationEvent.class);
+        recording.enable(SortRunEvent.class);
+        recording.enable(ExportEvent.class);
+        recording.setToDisk(true);
+        recording.setDestination(destination);
+        recording.start();
+        return new AnalysisRecording(recording);
+    }
+
+    /**
+     * Stops the recording and writes it to the destination file.
+     */
+    @Override
+    public void close() {
+        recording.stop();
+        recording.close();
+    }
+}
@@ -0,0 +1,38 @@
+package main.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event of preparation of one analysis array, which is generated by a filler, taken from a dataset cache
+ * or read from a dataset corpus.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+@Name("main.jfr.DatasetGeneration")
+@Label("Dataset Generation")
+@Category({"Sorting Analysis"})
+@Description("Preparation of one array for analysis")
+@StackTrace(false)
+public class DatasetGenerationEvent extends jdk.jfr.Event {
+    public static final String SOURCE_FILLER = "filler";
+    public static final String SOURCE_CACHE = "cache";
+    public static final String SOURCE_CORPUS = "corpus";
+
+    @Label("Filler")
+    public String filler;
+
+    @Label("Length")
+    public int length;
+
+    @Label("Seed")
+    public long seed;
+
+    @Label("Source")
+    @Description("Source of the array: filler, cache or corpus")
+    public String source;
+}
@@ -0,0 +1,29 @@
+package main.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event of finishing of a result sink after the last analysis cell, e.g. of the export to a .xlsx file
+ * by {@link main.output.ExcelSink}.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+@Name("main.jfr.Export")
+@Label("Export")
+@Category({"Sorting Analysis"})
+@Description("Export of analysis results by a result sink")
+@StackTrace(false)
+public class ExportEvent extends jdk.jfr.Event {
+
+    @Label("Sink")
+    public String sink;
+
+    @Label("Lengths")
+    @Description("Number of lengths of the analysis")
+    public int lengthsCount;
+}
@@ -0,0 +1,34 @@
+package main.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event of one timed sorting run of an analysis cell, which duration is the timed window of the run.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+@Name("main.jfr.SortRun")
+@Label("Sort Run")
+@Category({"Sorting Analysis"})
+@Description("Timed sorting of one array by one sorter")
+@StackTrace(false)
+public class SortRunEvent extends jdk.jfr.Event {
+
+    @Label("Filler")
+    public String filler;
+
+    @Label("Sorter")
+    public String sorter;
+
+    @Label("Length")
+    public int length;
+
+    @Label("Repetition")
+    @Description("Index of the run, negative for warmup runs")
+    public int repetition;
+}
@@ -0,0 +1,44 @@
+package main.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Interface for sorting algorithms, that sort int values of an {@link IntBuffer} in place,
+ * so that values of direct or memory-mapped buffers are sorted without copying them to a Java array.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public interface BufferSorter {
+
+    /**
+     * Maximum number of int values of a buffer, which size in bytes fits in {@code int}.
+     */
+    int MAX_DIRECT_LENGTH = Integer.MAX_VALUE / Integer.BYTES;
+
+    /**
+     * Sorts values of the passed buffer from its position (inclusive) to its limit (exclusive) in ascending order.
+     * Position and limit of the buffer are not changed.
+     *
+     * @param buffer buffer for sorting, must not be read-only
+     */
+    void sort(IntBuffer buffer);
+
+    /**
+     * Allocates a direct buffer in native byte order, that can hold the passed number of int values.
+     *
+     * @param length number of values
+     * @return direct buffer with position 0 and limit equal to length
+     * @throws IllegalArgumentException if length is negative or greater than {@link #MAX_DIRECT_LENGTH}
+     */
+    static IntBuffer allocateDirect(int length) {
+        long bytes = (long) length * Integer.BYTES;
+        if (length < 0 || bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Direct buffer of " + length + " int values is not supported, "
+                    + "length must be from 0 to " + MAX_DIRECT_LENGTH);
+        }
+        return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+}
@@ -0,0 +1,122 @@
+package main.offheap;
+
+import java.nio.IntBuffer;
+
+/**
+ * Introsort of {@link IntBuffer} values, which is the off-heap version of {@link main.sorters.RecursiveSorter}:
+ * quicksort with median-of-three pivot (ninther for big parts) and three-way partitioning,
+ * recursion on the smaller part only, heapsort after 2 * log2(n) partitioning levels and insertion sort
+ * for parts of up to {@value #INSERTION_SORT_THRESHOLD} elements.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public final class QuickBufferSorter implements BufferSorter {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static final int NINTHER_THRESHOLD = 128;
+
+    @Override
+    public void sort(IntBuffer buffer) {
+        IntBuffer data = buffer.slice();
+        int length = data.remaining();
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(length, 1)));
+        sort(data, 0, length - 1, depthLimit);
+    }
+
+    private static void sort(IntBuffer data, int left, int right, int depthLimit) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(data, left, right);
+                return;
+            }
+            int pivot = data.get(selectPivot(data, left, right));
+            int lt = left;
+            int gt = right;
+            int i = left;
+            while (i <= gt) {                   // [left, lt) < pivot, [lt, i) == pivot, (gt, right] > pivot
+                int value = data.get(i);
+                if (value < pivot) {
+                    swap(data, lt++, i++);
+                } else if (value > pivot) {
+                    swap(data, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (lt - left < right - gt) {
+                sort(data, left, lt - 1, depthLimit);
+                left = gt + 1;
+            } else {
+                sort(data, gt + 1, right, depthLimit);
+                right = lt - 1;
+            }
+        }
+        insertionSort(data, left, right);
+    }
+
+    private static int selectPivot(IntBuffer data, int left, int right) {
+        int mid = left + (right - left) / 2;
+        if (right - left < NINTHER_THRESHOLD) {
+            return median(data, left, mid, right);
+        }
+        int step = (right - left) / 8;
+        return median(data, median(data, left, left + step, left + 2 * step),
+                median(data, mid - step, mid, mid + step),
+                median(data, right - 2 * step, right - step, right));
+    }
+
+    private static int median(IntBuffer data, int a, int b, int c) {
+        int va = data.get(a);
+        int vb = data.get(b);
+        int vc = data.get(c);
+        if (va < vb) {
+            return vb < vc ? b : (va < vc ? c : a);
+        }
+        return va < vc ? a : (vb < vc ? c : b);
+    }
+
+    private static void insertionSort(IntBuffer data, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            int value = data.get(i);
+            int j = i - 1;
+            while (j >= left && data.get(j) > value) {
+                data.put(j + 1, data.get(j));
+                j--;
+            }
+            data.put(j + 1, value);
+        }
+    }
+
+    private static void heapSort(IntBuffer data, int left, int right) {
+        int n = right - left + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(data, left, i, n);
+        }
+        for (int last = n - 1; last > 0; last--) {
+            swap(data, left, left + last);
+            siftDown(data, left, 0, last);
+        }
+    }
+
+    private static void siftDown(IntBuffer data, int offset, int i, int n) {
+        int value = data.get(offset + i);
+        while (2 * i + 1 < n) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && data.get(offset + child + 1) > data.get(offset + child)) {
+                child++;
+            }
+            if (data.get(offset + child) <= value) {
+                break;
+            }
+            data.put(offset + i, data.get(offset + child));
+            i = child;
+        }
+        data.put(offset + i, value);
+    }
+
+    private static void swap(IntBuffer data, int a, int b) {
+        int temp = data.get(a);
+        data.put(a, data.get(b));
+        data.put(b, temp);
+    }
+}
@@ -0,0 +1,70 @@
+package main.offheap;
+
+import java.nio.IntBuffer;
+
+/**
+ * LSD radix sort of {@link IntBuffer} values, which is the off-heap version of {@link main.sorters.RadixSorter}:
+ * sorts by 8-bit digits of the difference between value and minimum value, skips passes, in which all values
+ * have the same digit, and uses a single direct scratch buffer per sorting, so values never leave native memory.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public final class RadixBufferSorter implements BufferSorter {
+    private static final int DIGIT_BITS = 8;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    @Override
+    public void sort(IntBuffer buffer) {
+        IntBuffer data = buffer.slice();
+        int n = data.remaining();
+        if (n < 2) {
+            return;
+        }
+        int min = data.get(0);
+        int max = data.get(0);
+        for (int i = 1; i < n; i++) {
+            int value = data.get(i);
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        int bits = Integer.SIZE - Integer.numberOfLeadingZeros(max - min);
+        int passes = (bits + DIGIT_BITS - 1) / DIGIT_BITS;
+        int[][] counts = new int[passes][RADIX];
+        for (int i = 0; i < n; i++) {
+            int key = data.get(i) - min;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(key >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+        }
+        IntBuffer src = data;
+        IntBuffer dst = null;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * DIGIT_BITS;
+            int[] offsets = counts[pass];
+            if (offsets[((src.get(0) - min) >>> shift) & DIGIT_MASK] == n) {
+                continue;                       // all values have the same digit
+            }
+            if (dst == null) {
+                dst = BufferSorter.allocateDirect(n);
+            }
+            int offset = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = offsets[digit];
+                offsets[digit] = offset;
+                offset += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int value = src.get(i);
+                dst.put(offsets[((value - min) >>> shift) & DIGIT_MASK]++, value);
+            }
+            IntBuffer temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != data) {
+            data.put(src);
+        }
+    }
+}
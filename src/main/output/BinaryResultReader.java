@@ -0,0 +1,113 @@
+package main.output;
+
+import main.analyzer.CellResult;
+import main.analyzer.MemoryStatistics;
+import main.analyzer.TimeStatistics;
+import main.sorters.OperationCounter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reader of files, written by {@link BinarySink}.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.3
+ */
+public final class BinaryResultReader {
+
+    private BinaryResultReader() {
+    }
+
+    /**
+     * Reads all cells from the passed file.
+     *
+     * @param file file, written by {@link BinarySink}
+     * @return cells in order, in which they were written
+     * @throws IOException if the file cannot be read or has unknown format
+     */
+    public static List<CellResult> read(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < 3 * Integer.BYTES || buffer.getInt() != BinarySink.MAGIC) {
+            throw new IOException("Unknown format of file " + file);
+        }
+        if (buffer.getInt() != BinarySink.VERSION) {
+            throw new IOException("Unknown format of file " + file);
+        }
+        int[] lengthSteps = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(lengthSteps);
+        buffer.position(buffer.position() + lengthSteps.length * Integer.BYTES);
+
+        List<String> names = new ArrayList<>();
+        List<CellResult> cells = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            int n = buffer.getInt();
+            int newNamesCount = buffer.getInt();
+            for (int i = 0; i < newNamesCount; i++) {
+                byte[] name = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(name);
+                names.add(new String(name, StandardCharsets.UTF_8));
+            }
+            int[] fillerIds = readInts(buffer, n);
+            int[] sorterIds = readInts(buffer, n);
+            int[] lengthIndexes = readInts(buffer, n);
+            int[] iterations = readInts(buffer, n);
+            long[] min = readLongs(buffer, n);
+            long[] max = readLongs(buffer, n);
+            long[] median = readLongs(buffer, n);
+            long[] p90 = readLongs(buffer, n);
+            long[] p99 = readLongs(buffer, n);
+            double[] mean = readDoubles(buffer, n);
+            double[] stdDev = readDoubles(buffer, n);
+            double[] confidenceInterval = readDoubles(buffer, n);
+            long[] allocatedBytes = readLongs(buffer, n);
+            long[] gcCount = readLongs(buffer, n);
+            long[] gcTime = readLongs(buffer, n);
+            int[] gcAffectedRuns = readInts(buffer, n);
+            long[] comparisons = readLongs(buffer, n);
+            long[] moves = readLongs(buffer, n);
+            long[] swaps = readLongs(buffer, n);
+            long[] allocatedElements = readLongs(buffer, n);
+            for (int i = 0; i < n; i++) {
+                MemoryStatistics memory = gcAffectedRuns[i] < 0 ? null
+                        : new MemoryStatistics(allocatedBytes[i], gcCount[i], gcTime[i], gcAffectedRuns[i]);
+                OperationCounter counts = comparisons[i] < 0 ? null
+                        : new OperationCounter(comparisons[i], moves[i], swaps[i], allocatedElements[i]);
+                cells.add(new CellResult(names.get(fillerIds[i]), names.get(sorterIds[i]), lengthIndexes[i],
+                        lengthSteps[lengthIndexes[i]], new TimeStatistics(iterations[i], min[i], max[i], median[i],
+                        mean[i], p90[i], p99[i], stdDev[i], confidenceInterval[i]), memory, counts));
+            }
+        }
+        return cells;
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int n) {
+        int[] values = new int[n];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + n * Integer.BYTES);
+        return values;
+    }
+
+    private static long[] readLongs(ByteBuffer buffer, int n) {
+        long[] values = new long[n];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + n * Long.BYTES);
+        return values;
+    }
+
+    private static double[] readDoubles(ByteBuffer buffer, int n) {
+        double[] values = new double[n];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + n * Double.BYTES);
+        return values;
+    }
+}
@@ -0,0 +1,162 @@
+package main.output;
+
+import main.analyzer.CellResult;
+import main.analyzer.MemoryStatistics;
+import main.sorters.OperationCounter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sink, that writes cells to a compact binary columnar file through {@link FileChannel}.
+ * <p>
+ * Cells are collected in blocks of up to {@value #BLOCK_SIZE} cells, every block is written column by column,
+ * so that a reader can take only the columns it needs. All values are written in big-endian byte order.
+ * File structure:
+ * <ul>
+ *     <li>Header: magic number {@value #MAGIC}, format version (int), number of lengths (int) and lengths (int[]);</li>
+ *     <li>Blocks until the end of file. A block starts with number of cells (int), then names, that first appear
+ *     in the block (number of names as int, every name as unsigned short byte length and UTF-8 bytes),
+ *     then columns: filler name id, sorter name id, length index, iterations (int[]), min, max, median,
+ *     p90, p99 (long[]), mean, standard deviation and confidence interval (double[]),
+ *     allocated bytes, GC count, GC time (long[]) and GC affected runs (int[], -1 for cells without memory statistics),
+ *     comparisons, moves, swaps and allocated elements (long[], -1 for cells without operation counts).</li>
+ * </ul>
+ * Name ids are indexes of names in order of their first appearance in the file.
+ * Files are read by {@link BinaryResultReader}.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.3
+ */
+public class BinarySink implements ResultSink {
+    static final int MAGIC = 0x53524C54;
+    static final int VERSION = 2;
+    static final int BLOCK_SIZE = 1024;
+    private static final int CELL_BYTES = 5 * Integer.BYTES + 12 * Long.BYTES + 3 * Double.BYTES;
+
+    private final Path file;
+    private FileChannel channel;
+    private ByteBuffer buffer;
+    private final Map<String, Integer> nameIds = new HashMap<>();
+    private final List<byte[]> newNames = new ArrayList<>();
+    private final CellResult[] block = new CellResult[BLOCK_SIZE];
+    private final int[] fillerIds = new int[BLOCK_SIZE];
+    private final int[] sorterIds = new int[BLOCK_SIZE];
+    private int blockSize;
+
+    /**
+     * @param file binary file, is created or replaced on analysis start
+     */
+    public BinarySink(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void start(int[] lengthSteps) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer = ByteBuffer.allocate(Math.max((3 + lengthSteps.length) * Integer.BYTES, BLOCK_SIZE * CELL_BYTES));
+        nameIds.clear();
+        blockSize = 0;
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(lengthSteps.length);
+        for (int lengthStep : lengthSteps) {
+            buffer.putInt(lengthStep);
+        }
+        writeBuffer();
+    }
+
+    @Override
+    public void accept(CellResult cellResult) throws IOException {
+        fillerIds[blockSize] = getNameId(cellResult.getFillerName());
+        sorterIds[blockSize] = getNameId(cellResult.getSorterName());
+        block[blockSize++] = cellResult;
+        if (blockSize == BLOCK_SIZE) {
+            writeBlock();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        try {
+            if (blockSize > 0) {
+                writeBlock();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private int getNameId(String name) {
+        Integer id = nameIds.get(name);
+        if (id == null) {
+            id = nameIds.size();
+            nameIds.put(name, id);
+            newNames.add(name.getBytes(StandardCharsets.UTF_8));
+        }
+        return id;
+    }
+
+    private void writeBlock() throws IOException {
+        int namesBytes = Integer.BYTES;
+        for (byte[] name : newNames) {
+            namesBytes += Short.BYTES + name.length;
+        }
+        if (buffer.capacity() < Integer.BYTES + namesBytes + blockSize * CELL_BYTES) {
+            buffer = ByteBuffer.allocate(Integer.BYTES + namesBytes + blockSize * CELL_BYTES);
+        }
+        buffer.putInt(blockSize).putInt(newNames.size());
+        for (byte[] name : newNames) {
+            buffer.putShort((short) name.length).put(name);
+        }
+        newNames.clear();
+
+        for (int i = 0; i < blockSize; i++) buffer.putInt(fillerIds[i]);
+        for (int i = 0; i < blockSize; i++) buffer.putInt(sorterIds[i]);
+        for (int i = 0; i < blockSize; i++) buffer.putInt(block[i].getLengthIndex());
+        for (int i = 0; i < blockSize; i++) buffer.putInt(block[i].getTimeStatistics().getIterations());
+        for (int i = 0; i < blockSize; i++) buffer.putLong(block[i].getTimeStatistics().getMin());
+        for (int i = 0; i < blockSize; i++) buffer.putLong(block[i].getTimeStatistics().getMax());
+        for (int i = 0; i < blockSize; i++) buffer.putLong(block[i].getTimeStatistics().getMedian());
+        for (int i = 0; i < blockSize; i++) buffer.putLong(block[i].getTimeStatistics().getP90());
+        for (int i = 0; i < blockSize; i++) buffer.putLong(block[i].getTimeStatistics().getP99());
+        for (int i = 0; i < blockSize; i++) buffer.putDouble(block[i].getTimeStatistics().getMean());
+        for (int i = 0; i < blockSize; i++) buffer.putDouble(block[i].getTimeStatistics().getStdDev());
+        for (int i = 0; i < blockSize; i++) buffer.putDouble(block[i].getTimeStatistics().getConfidenceInterval());
+        for (int i = 0; i < blockSize; i++) buffer.putLong(memory(block[i]) == null ? -1 : memory(block[i]).getAllocatedBytes());
+        for (int i = 0; i < blockSize; i++) buffer.putLong(memory(block[i]) == null ? -1 : memory(block[i]).getGcCount());
+        for (int i = 0; i < blockSize; i++) buffer.putLong(memory(block[i]) == null ? -1 : memory(block[i]).getGcTime());
+        for (int i = 0; i < blockSize; i++) buffer.putInt(memory(block[i]) == null ? -1 : memory(block[i]).getGcAffectedRuns());
+        for (int i = 0; i < blockSize; i++) buffer.putLong(counts(block[i]) == null ? -1 : counts(block[i]).getComparisons());
+        for (int i = 0; i < blockSize; i++) buffer.putLong(counts(block[i]) == null ? -1 : counts(block[i]).getMoves());
+        for (int i = 0; i < blockSize; i++) buffer.putLong(counts(block[i]) == null ? -1 : counts(block[i]).getSwaps());
+        for (int i = 0; i < blockSize; i++) buffer.putLong(counts(block[i]) == null ? -1 : counts(block[i]).getAllocatedElements());
+        writeBuffer();
+        Arrays.fill(block, 0, blockSize, null);
+        blockSize = 0;
+    }
+
+    private static MemoryStatistics memory(CellResult cellResult) {
+        return cellResult.getMemoryStatistics();
+    }
+
+    private static OperationCounter counts(CellResult cellResult) {
+        return cellResult.getOperationCounts();
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,135 @@
+package main.output;
+
+import main.analyzer.CellResult;
+import main.analyzer.MemoryStatistics;
+import main.analyzer.TimeStatistics;
+import main.sorters.OperationCounter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary encoding of a single {@link CellResult}, used by {@link ResultJournal} records
+ * and by frames of forked JVMs, see {@link main.analyzer.ForkMode}.
+ * <p>
+ * Encoded cell: filler and sorter names (unsigned short byte length and UTF-8 bytes), length index and length (int),
+ * iterations (int), min, max, median (long), mean (double), p90, p99 (long), standard deviation
+ * and confidence interval (double), then memory statistics flag (byte) and, if it is 1, allocated bytes, GC count,
+ * GC time (long) and GC affected runs (int), then operation counts flag (byte) and, if it is 1, comparisons, moves,
+ * swaps and allocated elements (long), in the byte order of the buffer.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.3
+ */
+public final class CellResultCodec {
+    private static final int FIXED_BYTES = 3 * Integer.BYTES + 5 * Long.BYTES + 3 * Double.BYTES + 2 * Byte.BYTES;
+    private static final int MEMORY_STATISTICS_BYTES = 3 * Long.BYTES + Integer.BYTES;
+    private static final int OPERATION_COUNTS_BYTES = 4 * Long.BYTES;
+
+    private CellResultCodec() {
+    }
+
+    /**
+     * Returns size of the encoded cell.
+     *
+     * @param cellResult cell
+     * @return size in bytes
+     */
+    public static int getEncodedSize(CellResult cellResult) {
+        return 2 * Short.BYTES + getNameBytes(cellResult.getFillerName()).length
+                + getNameBytes(cellResult.getSorterName()).length + FIXED_BYTES
+                + (cellResult.getMemoryStatistics() == null ? 0 : MEMORY_STATISTICS_BYTES)
+                + (cellResult.getOperationCounts() == null ? 0 : OPERATION_COUNTS_BYTES);
+    }
+
+    /**
+     * Writes the encoded cell at the buffer position.
+     *
+     * @param cellResult cell
+     * @param buffer buffer with at least {@link #getEncodedSize(CellResult)} bytes remaining
+     */
+    public static void encode(CellResult cellResult, ByteBuffer buffer) {
+        TimeStatistics statistics = cellResult.getTimeStatistics();
+        putName(buffer, cellResult.getFillerName());
+        putName(buffer, cellResult.getSorterName());
+        buffer.putInt(cellResult.getLengthIndex())
+                .putInt(cellResult.getLength())
+                .putInt(statistics.getIterations())
+                .putLong(statistics.getMin())
+                .putLong(statistics.getMax())
+                .putLong(statistics.getMedian())
+                .putDouble(statistics.getMean())
+                .putLong(statistics.getP90())
+                .putLong(statistics.getP99())
+                .putDouble(statistics.getStdDev())
+                .putDouble(statistics.getConfidenceInterval());
+        MemoryStatistics memory = cellResult.getMemoryStatistics();
+        if (memory == null) {
+            buffer.put((byte) 0);
+        } else {
+            buffer.put((byte) 1)
+                    .putLong(memory.getAllocatedBytes())
+                    .putLong(memory.getGcCount())
+                    .putLong(memory.getGcTime())
+                    .putInt(memory.getGcAffectedRuns());
+        }
+        OperationCounter counts = cellResult.getOperationCounts();
+        if (counts == null) {
+            buffer.put((byte) 0);
+        } else {
+            buffer.put((byte) 1)
+                    .putLong(counts.getComparisons())
+                    .putLong(counts.getMoves())
+                    .putLong(counts.getSwaps())
+                    .putLong(counts.getAllocatedElements());
+        }
+    }
+
+    /**
+     * Reads an encoded cell from the buffer position.
+     *
+     * @param buffer buffer with an encoded cell
+     * @return decoded cell
+     * @throws java.nio.BufferUnderflowException if the buffer does not contain the whole cell
+     */
+    public static CellResult decode(ByteBuffer buffer) {
+        String fillerName = getName(buffer);
+        String sorterName = getName(buffer);
+        int lengthIndex = buffer.getInt();
+        int length = buffer.getInt();
+        int iterations = buffer.getInt();
+        long min = buffer.getLong();
+        long max = buffer.getLong();
+        long median = buffer.getLong();
+        double mean = buffer.getDouble();
+        long p90 = buffer.getLong();
+        long p99 = buffer.getLong();
+        double stdDev = buffer.getDouble();
+        double confidenceInterval = buffer.getDouble();
+        MemoryStatistics memory = null;
+        if (buffer.get() != 0) {
+            memory = new MemoryStatistics(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getInt());
+        }
+        OperationCounter counts = null;
+        if (buffer.get() != 0) {
+            counts = new OperationCounter(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+        return new CellResult(fillerName, sorterName, lengthIndex, length,
+                new TimeStatistics(iterations, min, max, median, mean, p90, p99, stdDev, confidenceInterval), memory, counts);
+    }
+
+    private static byte[] getNameBytes(String name) {
+        return name.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putName(ByteBuffer buffer, String name) {
+        byte[] bytes = getNameBytes(name);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getName(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
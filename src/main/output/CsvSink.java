@@ -0,0 +1,103 @@
+package main.output;
+
+import main.analyzer.CellResult;
+import main.analyzer.MemoryStatistics;
+import main.analyzer.TimeStatistics;
+import main.sorters.OperationCounter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Sink, that writes every cell as a line of a CSV file with a header line.
+ * <p>
+ * Times are written in nanoseconds, values are separated by commas and names are quoted
+ * only if they contain commas, quotes or line breaks, as described in RFC 4180.
+ * Cells, skipped by a time budget, have zero values and {@code true} in the {@code skipped} column.
+ * Cells, which measurement failed, have empty time columns from {@code iterations} to {@code confidenceInterval}
+ * and {@code true} in the {@code failed} column, so that they are not taken for measurements.
+ * Memory columns are empty for cells without {@link CellResult#getMemoryStatistics() memory statistics},
+ * and operation count columns are empty for cells without {@link CellResult#getOperationCounts() operation counts}.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.4
+ */
+public class CsvSink implements ResultSink {
+    static final String HEADER = "filler,sorter,length,iterations,min,max,median,mean,p90,p99,stdDev,confidenceInterval,skipped,"
+            + "failed,allocatedBytes,gcCount,gcTime,gcAffectedRuns,comparisons,moves,swaps,allocatedElements";
+
+    private final Path file;
+    private Writer writer;
+
+    /**
+     * @param file CSV file, is created or replaced on analysis start
+     */
+    public CsvSink(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void start(int[] lengthSteps) throws IOException {
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void accept(CellResult cellResult) throws IOException {
+        TimeStatistics statistics = cellResult.getTimeStatistics();
+        StringBuilder line = new StringBuilder(128);
+        line.append(quote(cellResult.getFillerName())).append(',')
+                .append(quote(cellResult.getSorterName())).append(',')
+                .append(cellResult.getLength()).append(',');
+        if (statistics.isFailed()) {
+            line.append(",,,,,,,,,");
+        } else {
+            line.append(statistics.getIterations()).append(',')
+                    .append(statistics.getMin()).append(',')
+                    .append(statistics.getMax()).append(',')
+                    .append(statistics.getMedian()).append(',')
+                    .append(statistics.getMean()).append(',')
+                    .append(statistics.getP90()).append(',')
+                    .append(statistics.getP99()).append(',')
+                    .append(statistics.getStdDev()).append(',')
+                    .append(statistics.getConfidenceInterval()).append(',');
+        }
+        line.append(statistics.isSkipped()).append(',')
+                .append(statistics.isFailed()).append(',');
+        MemoryStatistics memory = cellResult.getMemoryStatistics();
+        if (memory == null) {
+            line.append(",,,,");
+        } else {
+            line.append(memory.getAllocatedBytes()).append(',')
+                    .append(memory.getGcCount()).append(',')
+                    .append(memory.getGcTime()).append(',')
+                    .append(memory.getGcAffectedRuns()).append(',');
+        }
+        OperationCounter counts = cellResult.getOperationCounts();
+        if (counts == null) {
+            line.append(",,,\n");
+        } else {
+            line.append(counts.getComparisons()).append(',')
+                    .append(counts.getMoves()).append(',')
+                    .append(counts.getSwaps()).append(',')
+                    .append(counts.getAllocatedElements()).append('\n');
+        }
+        writer.append(line);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.close();
+    }
+
+    private static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,110 @@
+package main.output;
+
+import main.analyzer.CellResult;
+import main.analyzer.MemoryStatistics;
+import main.analyzer.TimeStatistics;
+import main.excel.ExcelExport;
+import main.excel.StreamingExcelExport;
+import main.sorters.OperationCounter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+/**
+ * Sink, that collects cells and exports them to a .xlsx file with {@link ExcelExport}
+ * after the last cell of the analysis. The file is "out/output/Sorting Analysis.xlsx" by default.
+ * <p>
+ * Analyses with {@value #STREAMING_EXPORT_MIN_STEPS} or more lengths are exported with {@link StreamingExcelExport}.
+ * Memory statistics and operation counts of cells, if there are any, are exported to separate sheets.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.3
+ */
+public class ExcelSink implements ResultSink {
+    private static final int STREAMING_EXPORT_MIN_STEPS = 50;
+
+    private NavigableMap<String, NavigableMap<String, TimeStatistics[]>> data;
+    private NavigableMap<String, NavigableMap<String, MemoryStatistics[]>> memoryStatistics;
+    private NavigableMap<String, NavigableMap<String, OperationCounter[]>> operationCounts;
+    private int[] lengthSteps;
+    private final File file;
+    private File outputFile;
+
+    public ExcelSink() {
+        this.file = null;
+    }
+
+    /**
+     * @param file .xlsx file, is created or replaced after the last cell of every analysis
+     */
+    public ExcelSink(Path file) {
+        this.file = file.toFile();
+    }
+
+    @Override
+    public void start(int[] lengthSteps) {
+        this.lengthSteps = lengthSteps;
+        data = new TreeMap<>();
+        memoryStatistics = new TreeMap<>();
+        operationCounts = new TreeMap<>();
+        outputFile = null;
+    }
+
+    @Override
+    public void accept(CellResult cellResult) {
+        put(data, cellResult, cellResult.getTimeStatistics(), TimeStatistics[]::new);
+        if (cellResult.getMemoryStatistics() != null) {
+            put(memoryStatistics, cellResult, cellResult.getMemoryStatistics(), MemoryStatistics[]::new);
+        }
+        if (cellResult.getOperationCounts() != null) {
+            put(operationCounts, cellResult, cellResult.getOperationCounts(), OperationCounter[]::new);
+        }
+    }
+
+    private <T> void put(NavigableMap<String, NavigableMap<String, T[]>> map, CellResult cellResult, T value,
+                         IntFunction<T[]> arrayFactory) {
+        map.computeIfAbsent(cellResult.getFillerName(), filler -> new TreeMap<>())
+                .computeIfAbsent(cellResult.getSorterName(), sorter -> arrayFactory.apply(lengthSteps.length))
+                [cellResult.getLengthIndex()] = value;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (data.isEmpty()) {
+            return;
+        }
+        if (lengthSteps.length < STREAMING_EXPORT_MIN_STEPS) {
+            ExcelExport excelExport = new ExcelExport();
+            if (file != null) {
+                excelExport.setOutputFile(file);
+            }
+            excelExport.setMemoryStatistics(memoryStatistics.isEmpty() ? null : memoryStatistics);
+            excelExport.setOperationCounts(operationCounts.isEmpty() ? null : operationCounts);
+            outputFile = excelExport.getOutputFile(data, lengthSteps);
+        } else {
+            StreamingExcelExport excelExport = new StreamingExcelExport();
+            if (file != null) {
+                excelExport.setOutputFile(file);
+            }
+            excelExport.setMemoryStatistics(memoryStatistics.isEmpty() ? null : memoryStatistics);
+            excelExport.setOperationCounts(operationCounts.isEmpty() ? null : operationCounts);
+            outputFile = excelExport.getOutputFile(data, lengthSteps);
+        }
+        data = null;
+        memoryStatistics = null;
+        operationCounts = null;
+    }
+
+    /**
+     * Returns the file, written after the last analysis.
+     *
+     * @return .xlsx file, or null if the analysis had no cells or is not finished
+     */
+    public File getOutputFile() {
+        return outputFile;
+    }
+}
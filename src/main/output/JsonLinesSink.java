@@ -0,0 +1,108 @@
+package main.output;
+
+import main.analyzer.CellResult;
+import main.analyzer.MemoryStatistics;
+import main.analyzer.TimeStatistics;
+import main.sorters.OperationCounter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Sink, that writes every cell as a JSON object on a separate line (JSON Lines format).
+ * <p>
+ * Times are written in nanoseconds, objects have the same keys as columns of {@link CsvSink}.
+ * Cells, which measurement failed, have null values of time keys from {@code iterations} to {@code confidenceInterval}
+ * and {@code true} value of the {@code failed} key.
+ * Memory keys have null values for cells without {@link CellResult#getMemoryStatistics() memory statistics},
+ * and operation count keys have null values for cells without {@link CellResult#getOperationCounts() operation counts}.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.4
+ */
+public class JsonLinesSink implements ResultSink {
+    private final Path file;
+    private Writer writer;
+
+    /**
+     * @param file JSON Lines file, is created or replaced on analysis start
+     */
+    public JsonLinesSink(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void start(int[] lengthSteps) throws IOException {
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void accept(CellResult cellResult) throws IOException {
+        TimeStatistics statistics = cellResult.getTimeStatistics();
+        StringBuilder line = new StringBuilder(256);
+        line.append("{\"filler\":");
+        appendString(line, cellResult.getFillerName());
+        line.append(",\"sorter\":");
+        appendString(line, cellResult.getSorterName());
+        line.append(",\"length\":").append(cellResult.getLength());
+        if (statistics.isFailed()) {
+            line.append(",\"iterations\":null,\"min\":null,\"max\":null,\"median\":null,\"mean\":null,\"p90\":null,"
+                    + "\"p99\":null,\"stdDev\":null,\"confidenceInterval\":null");
+        } else {
+            line.append(",\"iterations\":").append(statistics.getIterations())
+                    .append(",\"min\":").append(statistics.getMin())
+                    .append(",\"max\":").append(statistics.getMax())
+                    .append(",\"median\":").append(statistics.getMedian())
+                    .append(",\"mean\":").append(statistics.getMean())
+                    .append(",\"p90\":").append(statistics.getP90())
+                    .append(",\"p99\":").append(statistics.getP99())
+                    .append(",\"stdDev\":").append(statistics.getStdDev())
+                    .append(",\"confidenceInterval\":").append(statistics.getConfidenceInterval());
+        }
+        line.append(",\"skipped\":").append(statistics.isSkipped())
+                .append(",\"failed\":").append(statistics.isFailed());
+        MemoryStatistics memory = cellResult.getMemoryStatistics();
+        if (memory == null) {
+            line.append(",\"allocatedBytes\":null,\"gcCount\":null,\"gcTime\":null,\"gcAffectedRuns\":null");
+        } else {
+            line.append(",\"allocatedBytes\":").append(memory.getAllocatedBytes())
+                    .append(",\"gcCount\":").append(memory.getGcCount())
+                    .append(",\"gcTime\":").append(memory.getGcTime())
+                    .append(",\"gcAffectedRuns\":").append(memory.getGcAffectedRuns());
+        }
+        OperationCounter counts = cellResult.getOperationCounts();
+        if (counts == null) {
+            line.append(",\"comparisons\":null,\"moves\":null,\"swaps\":null,\"allocatedElements\":null}\n");
+        } else {
+            line.append(",\"comparisons\":").append(counts.getComparisons())
+                    .append(",\"moves\":").append(counts.getMoves())
+                    .append(",\"swaps\":").append(counts.getSwaps())
+                    .append(",\"allocatedElements\":").append(counts.getAllocatedElements())
+                    .append("}\n");
+        }
+        writer.append(line);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.close();
+    }
+
+    private static void appendString(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
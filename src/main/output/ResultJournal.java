@@ -0,0 +1,356 @@
+package main.output;
+
+import main.analyzer.CellResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of finished analysis cells, so that an interrupted analysis can be resumed
+ * and its results can be exported at any time.
+ * <p>
+ * File structure:
+ * <ul>
+ *     <li>Header: magic number {@value #MAGIC}, format version (int), parameters fingerprint
+ *     (int byte length and UTF-8 bytes), number of lengths (int) and lengths (int[]);</li>
+ *     <li>Records: payload length (int), cell, encoded by {@link CellResultCodec}, and CRC32 of the payload (int).</li>
+ * </ul>
+ * A record is valid only if it is complete and its checksum matches, so a record, that was being written
+ * during a crash, is dropped and overwritten on the next {@link #open(String, int[])}.
+ * <p>
+ * Records are in the OS page cache as soon as they are appended, so killing the process does not lose them.
+ * To survive an OS crash or power loss too, the file is synced to the storage device after every
+ * {@code syncRecords} records, by a background thread every {@code syncMillis} milliseconds, if there are
+ * unsynced records, so that a record is synced even if the next cell takes hours, and on {@link #close()}.
+ * <p>
+ * A journal of an analysis with other parameters is not overwritten, but is kept in a sibling file, which name
+ * is the journal file name with a hash of the parameters appended, see {@link #getKeptFile(String, int[])}.
+ * It is moved back and resumed by the next {@link #open(String, int[])} with its parameters.
+ * Journals of other format versions are not resumed and are overwritten.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.4
+ */
+public class ResultJournal implements Closeable {
+    static final int MAGIC = 0x534A524E;
+    static final int VERSION = 2;
+
+    private final Path file;
+    private int syncRecords = 32;
+    private long syncMillis = 1000;
+    private FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(256);
+    private final CRC32 crc = new CRC32();
+    private int unsyncedRecords;
+    private long lastSyncTime;
+    private ScheduledExecutorService syncTimer;
+    private IOException syncException;
+
+    /**
+     * @param file journal file, is created on {@link #open(String, int[])} if it does not exist
+     */
+    public ResultJournal(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Sets how often appended records are synced to the storage device.
+     *
+     * @param syncRecords maximum number of records between syncs, must be greater than 0
+     * @param syncMillis maximum time between syncs in milliseconds, must be greater or equal to 0;
+     *                   0 to sync after every record
+     * @throws IllegalArgumentException if a value is invalid
+     */
+    public void setSyncInterval(int syncRecords, long syncMillis) {
+        if (syncRecords < 1 || syncMillis < 0) {
+            throw new IllegalArgumentException("Sync interval is invalid");
+        }
+        this.syncRecords = syncRecords;
+        this.syncMillis = syncMillis;
+    }
+
+    /**
+     * Opens the journal for appending.
+     * <p>
+     * If the journal file was written with the same parameters fingerprint and lengths, its valid records
+     * are returned and new records are appended after them. If it was written with other parameters, it is moved
+     * to its {@link #getKeptFile(String, int[]) kept file}, and the kept file of the passed parameters is resumed
+     * instead, if it exists. Otherwise a new empty journal is created.
+     *
+     * @param fingerprint description of all analysis parameters, that affect results
+     * @param lengthSteps array lengths of the analysis
+     * @return cells, that are already in the journal
+     * @throws IOException if the file cannot be read, moved or written
+     */
+    public synchronized List<CellResult> open(String fingerprint, int[] lengthSteps) throws IOException {
+        close();
+        if (Files.exists(file)) {
+            Contents contents;
+            try (FileChannel existing = FileChannel.open(file, StandardOpenOption.READ)) {
+                contents = read(existing);
+            }
+            if (contents != null && !contents.isWrittenWith(fingerprint, lengthSteps)) {
+                Files.move(file, getKeptFile(contents.fingerprint, contents.lengthSteps),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Path keptFile = getKeptFile(fingerprint, lengthSteps);
+        if (!Files.exists(file) && Files.exists(keptFile)) {
+            Files.move(keptFile, file);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        List<CellResult> cells = new ArrayList<>();
+        Contents contents = channel.size() > 0 ? read(channel) : null;
+        if (contents != null && contents.isWrittenWith(fingerprint, lengthSteps)) {
+            cells = contents.cells;
+            channel.truncate(contents.validSize);
+            channel.position(contents.validSize);
+        } else {
+            channel.truncate(0);
+            byte[] fingerprintBytes = fingerprint.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer header = ByteBuffer.allocate(4 * Integer.BYTES + fingerprintBytes.length
+                    + lengthSteps.length * Integer.BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(fingerprintBytes.length).put(fingerprintBytes)
+                    .putInt(lengthSteps.length);
+            for (int lengthStep : lengthSteps) {
+                header.putInt(lengthStep);
+            }
+            header.flip();
+            channel.position(0);
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(true);
+        }
+        unsyncedRecords = 0;
+        lastSyncTime = System.currentTimeMillis();
+        syncException = null;
+        if (syncMillis > 0) {
+            syncTimer = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "Result journal sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncTimer.scheduleWithFixedDelay(this::syncByTimer, syncMillis, syncMillis, TimeUnit.MILLISECONDS);
+        }
+        return cells;
+    }
+
+    /**
+     * Returns the file, in which a journal of an analysis with the passed parameters is kept, while the journal file
+     * is used by an analysis with other parameters.
+     *
+     * @param fingerprint description of all analysis parameters, that affect results
+     * @param lengthSteps array lengths of the analysis
+     * @return sibling of the journal file, which name ends with a hash of the parameters
+     */
+    public Path getKeptFile(String fingerprint, int[] lengthSteps) {
+        byte[] hash;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+            digest.update(Arrays.toString(lengthSteps).getBytes(StandardCharsets.UTF_8));
+            hash = digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder name = new StringBuilder(file.getFileName().toString()).append('.');
+        for (int i = 0; i < 8; i++) {
+            name.append(String.format("%02x", hash[i]));
+        }
+        return file.resolveSibling(name.toString());
+    }
+
+    /**
+     * Appends a finished cell to the journal.
+     *
+     * @param cellResult cell
+     * @throws IOException if the record cannot be written
+     */
+    public synchronized void append(CellResult cellResult) throws IOException {
+        if (syncException != null) {
+            throw syncException;
+        }
+        int payloadSize = CellResultCodec.getEncodedSize(cellResult);
+        if (buffer.capacity() < payloadSize + 2 * Integer.BYTES) {
+            buffer = ByteBuffer.allocate(payloadSize + 2 * Integer.BYTES);
+        }
+        buffer.clear();
+        buffer.putInt(payloadSize);
+        CellResultCodec.encode(cellResult, buffer);
+        crc.reset();
+        crc.update(buffer.array(), Integer.BYTES, payloadSize);
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        unsyncedRecords++;
+        long now = System.currentTimeMillis();
+        if (unsyncedRecords >= syncRecords || now - lastSyncTime >= syncMillis) {
+            channel.force(false);
+            unsyncedRecords = 0;
+            lastSyncTime = now;
+        }
+    }
+
+    /**
+     * Syncs unsynced records, is called by the sync timer. An exception is thrown by the next append.
+     */
+    private synchronized void syncByTimer() {
+        if (channel == null || unsyncedRecords == 0) {
+            return;
+        }
+        try {
+            channel.force(false);
+            unsyncedRecords = 0;
+            lastSyncTime = System.currentTimeMillis();
+        } catch (IOException e) {
+            syncException = e;
+        }
+    }
+
+    /**
+     * Syncs and closes the journal file, does nothing if the journal is not open.
+     *
+     * @throws IOException if the file cannot be synced or closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (syncTimer != null) {
+            syncTimer.shutdownNow();
+            syncTimer = null;
+        }
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+        } finally {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Reads valid records of a journal file, which may be written by another process at the same time.
+     *
+     * @param file journal file
+     * @return cells in order of appending
+     * @throws IOException if the file cannot be read or has unknown format
+     */
+    public static List<CellResult> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Contents contents = read(channel);
+            if (contents == null) {
+                throw new IOException("Unknown format of file " + file);
+            }
+            return contents.cells;
+        }
+    }
+
+    /**
+     * Passes all valid records of a journal file to the passed sinks as a finished analysis,
+     * e.g. to export results of an analysis, that is still running or was interrupted.
+     *
+     * @param file journal file
+     * @param sinks sinks, that receive the cells
+     * @throws IOException if the file cannot be read or a sink fails
+     */
+    public static void export(Path file, ResultSink... sinks) throws IOException {
+        Contents contents;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            contents = read(channel);
+        }
+        if (contents == null) {
+            throw new IOException("Unknown format of file " + file);
+        }
+        for (ResultSink sink : sinks) {
+            sink.start(contents.lengthSteps);
+            for (CellResult cellResult : contents.cells) {
+                sink.accept(cellResult);
+            }
+            sink.finish();
+        }
+    }
+
+    /**
+     * Reads header and valid records of a journal.
+     *
+     * @return journal contents, or null if the journal has unknown format or incomplete header
+     */
+    private static Contents read(FileChannel channel) throws IOException {
+        long size = channel.size();
+        ByteBuffer data = ByteBuffer.allocate((int) Math.min(size, Integer.MAX_VALUE));
+        while (data.hasRemaining()) {
+            if (channel.read(data, data.position()) < 0) {
+                break;
+            }
+        }
+        data.flip();
+        Contents contents = new Contents();
+        try {
+            if (data.getInt() != MAGIC || data.getInt() != VERSION) {
+                return null;
+            }
+            byte[] fingerprint = new byte[data.getInt()];
+            data.get(fingerprint);
+            contents.fingerprint = new String(fingerprint, StandardCharsets.UTF_8);
+            contents.lengthSteps = new int[data.getInt()];
+            for (int i = 0; i < contents.lengthSteps.length; i++) {
+                contents.lengthSteps[i] = data.getInt();
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        contents.validSize = data.position();
+        while (data.remaining() >= Integer.BYTES) {
+            int payloadSize = data.getInt();
+            if (payloadSize < 0 || data.remaining() < payloadSize + Integer.BYTES) {
+                break;
+            }
+            crc.reset();
+            crc.update(data.array(), data.position(), payloadSize);
+            ByteBuffer payload = (ByteBuffer) data.slice().limit(payloadSize);
+            data.position(data.position() + payloadSize);
+            if (data.getInt() != (int) crc.getValue()) {
+                break;
+            }
+            try {
+                contents.cells.add(CellResultCodec.decode(payload));
+            } catch (RuntimeException e) {
+                break;
+            }
+            contents.validSize = data.position();
+        }
+        return contents;
+    }
+
+    private static final class Contents {
+        private String fingerprint;
+        private int[] lengthSteps;
+        private final List<CellResult> cells = new ArrayList<>();
+        private long validSize;
+
+        boolean isWrittenWith(String fingerprint, int[] lengthSteps) {
+            return this.fingerprint.equals(fingerprint) && Arrays.equals(this.lengthSteps, lengthSteps);
+        }
+    }
+}
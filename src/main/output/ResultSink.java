@@ -0,0 +1,42 @@
+package main.output;
+
+import main.analyzer.Analyzer;
+import main.analyzer.CellResult;
+
+import java.io.IOException;
+
+/**
+ * Receiver of analysis results, to which {@link Analyzer} streams every cell as soon as it is measured.
+ * <p>
+ * Analyzer calls {@link #accept(CellResult)} of all its sinks under one lock, so implementations
+ * do not need to be thread-safe. Cells are passed in order of their completion, which is not the order
+ * of fillers, sorters or lengths, if cells are measured concurrently.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public interface ResultSink {
+
+    /**
+     * Called once before the first cell of an analysis.
+     *
+     * @param lengthSteps array lengths of the analysis, see {@link Analyzer#getLengthSteps()}
+     * @throws IOException if the output cannot be opened
+     */
+    void start(int[] lengthSteps) throws IOException;
+
+    /**
+     * Called once for every measured cell.
+     *
+     * @param cellResult result of the cell
+     * @throws IOException if the result cannot be written
+     */
+    void accept(CellResult cellResult) throws IOException;
+
+    /**
+     * Called once after the last cell of an analysis, writes all remaining data and releases the output.
+     *
+     * @throws IOException if the output cannot be written or closed
+     */
+    void finish() throws IOException;
+}
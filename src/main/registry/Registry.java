@@ -0,0 +1,182 @@
+package main.registry;
+
+import main.ReflectionUtils;
+import main.fillers.ArrayFiller;
+import main.fillers.Fillers;
+import main.sorters.Sorter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of all sorters and fillers, that are used in analysis.
+ * <p>
+ * Sorters and fillers are read from the index files, generated at compile time by {@code RegistryProcessor}.
+ * If the index files are not found on the classpath (e.g. sources were compiled without the processor),
+ * they are found by classpath scanning with {@link ReflectionUtils}.
+ * <p>
+ * The registry is loaded once per JVM on the first call of {@link #getInstance()}.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public final class Registry {
+    private static final String SORTERS_INDEX = "META-INF/main/sorters.index";
+    private static final String FILLERS_INDEX = "META-INF/main/fillers.index";
+
+    private final Set<Class<? extends Sorter>> sorterClasses;
+    private final Map<String, ArrayFiller> fillers;
+    private final boolean indexed;
+    private final long loadTime;
+
+    private Registry(LinkedHashSet<Class<? extends Sorter>> sorterClasses, LinkedHashSet<Method> fillerMethods,
+                     boolean indexed, long loadStart) {
+        LinkedHashMap<String, ArrayFiller> fillers = new LinkedHashMap<>();
+        for (Method fillerMethod : fillerMethods) {
+            fillers.put(fillerMethod.getName(), asFunction(fillerMethod));
+        }
+        this.sorterClasses = Collections.unmodifiableSet(sorterClasses);
+        this.fillers = Collections.unmodifiableMap(fillers);
+        this.indexed = indexed;
+        this.loadTime = System.nanoTime() - loadStart;
+    }
+
+    private static final class Holder {
+        private static final Registry INSTANCE = load();
+    }
+
+    /**
+     * Returns the registry, which is loaded on the first call of this method.
+     *
+     * @return registry of sorters and fillers
+     */
+    public static Registry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Loads a new registry from the index files or by classpath scanning, if there are no index files.
+     *
+     * @return new registry of sorters and fillers
+     */
+    public static Registry load() {
+        long loadStart = System.nanoTime();
+        try {
+            LinkedHashSet<String> sorterNames = readIndex(SORTERS_INDEX);
+            LinkedHashSet<String> fillerNames = readIndex(FILLERS_INDEX);
+            if (!sorterNames.isEmpty() && !fillerNames.isEmpty()) {
+                return new Registry(getSorterClasses(sorterNames), getFillerMethods(fillerNames), true, loadStart);
+            }
+        } catch (IOException | ReflectiveOperationException e) {
+            e.printStackTrace();
+        }
+        return scan(loadStart);
+    }
+
+    /**
+     * Loads a new registry by classpath scanning, ignoring the index files.
+     *
+     * @return new registry of sorters and fillers
+     */
+    public static Registry scan() {
+        return scan(System.nanoTime());
+    }
+
+    private static Registry scan(long loadStart) {
+        return new Registry(ReflectionUtils.getNonAbstrSubTypesOfClass("main.sorters", Sorter.class),
+                ReflectionUtils.getAnnotatedMethods(Fillers.class, Fillers.Filler.class), false, loadStart);
+    }
+
+    /**
+     * Reads names from all index files with the passed name on the classpath.
+     *
+     * @param indexName resource name of the index file
+     * @return names from the index files, empty if there are no such files
+     * @throws IOException if an index file cannot be read
+     */
+    private static LinkedHashSet<String> readIndex(String indexName) throws IOException {
+        LinkedHashSet<String> names = new LinkedHashSet<>();
+        Enumeration<URL> indexFiles = Registry.class.getClassLoader().getResources(indexName);
+        while (indexFiles.hasMoreElements()) {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(indexFiles.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        names.add(line.trim());
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    private static LinkedHashSet<Class<? extends Sorter>> getSorterClasses(Set<String> names) throws ClassNotFoundException {
+        LinkedHashSet<Class<? extends Sorter>> sorterClasses = new LinkedHashSet<>();
+        for (String name : names) {
+            sorterClasses.add(Class.forName(name).asSubclass(Sorter.class));
+        }
+        return sorterClasses;
+    }
+
+    private static LinkedHashSet<Method> getFillerMethods(Set<String> names)
+            throws ClassNotFoundException, NoSuchMethodException {
+        LinkedHashSet<Method> fillerMethods = new LinkedHashSet<>();
+        for (String name : names) {
+            int separatorIndex = name.indexOf('#');
+            Class<?> fillerClass = Class.forName(name.substring(0, separatorIndex));
+            fillerMethods.add(fillerClass.getMethod(name.substring(separatorIndex + 1), int[].class, long.class));
+        }
+        return fillerMethods;
+    }
+
+    private static ArrayFiller asFunction(Method fillerMethod) {
+        return ReflectionUtils.getStaticMethodAsFunction(fillerMethod, ArrayFiller.class);
+    }
+
+    /**
+     * Returns all non-abstract implementations of {@link Sorter}.
+     *
+     * @return unmodifiable set of sorter classes
+     */
+    public Set<Class<? extends Sorter>> getSorterClasses() {
+        return sorterClasses;
+    }
+
+    /**
+     * Returns all {@link Fillers.Filler} methods as functions, that fill the passed array.
+     *
+     * @return unmodifiable map of filler method names to filler functions
+     */
+    public Map<String, ArrayFiller> getFillers() {
+        return fillers;
+    }
+
+    /**
+     * Returns whether the registry was loaded from the index files generated at compile time.
+     *
+     * @return true if the index files were used, false if the classpath was scanned
+     */
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    /**
+     * Returns time, spent on loading the registry.
+     *
+     * @return load time in nanoseconds
+     */
+    public long getLoadTime() {
+        return loadTime;
+    }
+}
@@ -0,0 +1,58 @@
+package main.sorters;
+
+/**
+ * Class, representing bubble sorting algorithm, that moves the smallest elements to the beginning of the array
+ * in the same way as {@link BubbleDownSorter}.
+ * <p>
+ * Passes are performed by a single loop on local variables instead of {@link BubbleSorter} pointer methods.
+ * Every pass ends at the position of the last swap of the previous pass, because elements before it are already
+ * in their places, so sorting stops after the first pass without swaps and takes linear time on sorted arrays.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public final class AdaptiveBubbleDownSorter extends Sorter implements InstrumentedSorter {
+    public int[] doSorting(int[] data) {
+        if (checkNull(data))
+            return new int[0];
+        int last = data.length - 1;
+        int bound = 0;
+        while (bound < last) {
+            int lastSwap = last;
+            for (int j = last; j > bound; j--) {
+                int left = data[j - 1];
+                int right = data[j];
+                if (left > right) {
+                    data[j - 1] = right;
+                    data[j] = left;
+                    lastSwap = j;
+                }
+            }
+            bound = lastSwap;
+        }
+        return data;
+    }
+
+    public int[] doCountedSorting(int[] data, OperationCounter counter) {
+        if (checkNull(data))
+            return new int[0];
+        int last = data.length - 1;
+        int bound = 0;
+        while (bound < last) {
+            int lastSwap = last;
+            for (int j = last; j > bound; j--) {
+                int left = data[j - 1];
+                int right = data[j];
+                counter.comparisons++;
+                if (left > right) {
+                    counter.swaps++;
+                    data[j - 1] = right;
+                    data[j] = left;
+                    lastSwap = j;
+                }
+            }
+            bound = lastSwap;
+        }
+        return data;
+    }
+}
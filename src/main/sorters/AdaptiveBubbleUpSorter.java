@@ -0,0 +1,56 @@
+package main.sorters;
+
+/**
+ * Class, representing bubble sorting algorithm, that moves the biggest elements to the end of the array
+ * in the same way as {@link BubbleUpSorter}.
+ * <p>
+ * Passes are performed by a single loop on local variables instead of {@link BubbleSorter} pointer methods.
+ * Every pass ends at the position of the last swap of the previous pass, because elements after it are already
+ * in their places, so sorting stops after the first pass without swaps and takes linear time on sorted arrays.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public final class AdaptiveBubbleUpSorter extends Sorter implements InstrumentedSorter {
+    public int[] doSorting(int[] data) {
+        if (checkNull(data))
+            return new int[0];
+        int bound = data.length - 1;
+        while (bound > 0) {
+            int lastSwap = 0;
+            for (int j = 0; j < bound; j++) {
+                int left = data[j];
+                int right = data[j + 1];
+                if (left > right) {
+                    data[j] = right;
+                    data[j + 1] = left;
+                    lastSwap = j;
+                }
+            }
+            bound = lastSwap;
+        }
+        return data;
+    }
+
+    public int[] doCountedSorting(int[] data, OperationCounter counter) {
+        if (checkNull(data))
+            return new int[0];
+        int bound = data.length - 1;
+        while (bound > 0) {
+            int lastSwap = 0;
+            for (int j = 0; j < bound; j++) {
+                int left = data[j];
+                int right = data[j + 1];
+                counter.comparisons++;
+                if (left > right) {
+                    counter.swaps++;
+                    data[j] = right;
+                    data[j + 1] = left;
+                    lastSwap = j;
+                }
+            }
+            bound = lastSwap;
+        }
+        return data;
+    }
+}
@@ -0,0 +1,164 @@
+package main.sorters;
+
+/**
+ * Class, representing bottom-up merge sorting algorithm, that sorts the passed array in place.
+ * <p>
+ * Unlike {@link MergeSorter}, allocates a single auxiliary buffer per sorting and merges runs
+ * alternately from the array to the buffer and back, instead of copying halves on every recursion level.
+ * Runs of {@value #INSERTION_SORT_THRESHOLD} elements are sorted by insertion sort first,
+ * and merging of two runs is replaced by copying, if the runs are already in order.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public final class BottomUpMergeSorter extends Sorter implements InstrumentedSorter {
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    public int[] doSorting(int[] data) {
+        if (checkNull(data))
+            return new int[0];
+        if (data.length > INSERTION_SORT_THRESHOLD) {
+            sort(data, new int[data.length], 0, data.length);
+        } else {
+            insertionSort(data, 0, data.length);
+        }
+        return data;
+    }
+
+    /**
+     * Sorts elements of the passed array from index from (inclusive) to index to (exclusive),
+     * using the same range of the passed buffer for merging.
+     *
+     * @param data array for sorting
+     * @param buffer auxiliary array, which length is not less than {@code to}
+     * @param from index of the first element to be sorted
+     * @param to index after the last element to be sorted
+     */
+    static void sort(int[] data, int[] buffer, int from, int to) {
+        for (int lo = from; lo < to; lo += INSERTION_SORT_THRESHOLD) {
+            insertionSort(data, lo, Math.min(lo + INSERTION_SORT_THRESHOLD, to));
+        }
+        int n = to - from;
+        int[] src = data;
+        int[] dst = buffer;
+        for (int width = INSERTION_SORT_THRESHOLD; width < n; width = width > n / 2 ? n : width * 2) {
+            for (int lo = from; lo < to; ) {
+                int mid = (int) Math.min(to, (long) lo + width);
+                int hi = (int) Math.min(to, (long) mid + width);
+                merge(src, dst, lo, mid, hi);
+                lo = hi;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != data) {
+            System.arraycopy(src, from, data, from, n);
+        }
+    }
+
+    /**
+     * Sorts elements of the passed array from index lo (inclusive) to index hi (exclusive) by insertion sort.
+     */
+    private static void insertionSort(int[] data, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int value = data[i];
+            int j = i - 1;
+            while (j >= lo && data[j] > value) {
+                data[j + 1] = data[j];
+                j--;
+            }
+            data[j + 1] = value;
+        }
+    }
+
+    /**
+     * Merges sorted runs src[lo, mid) and src[mid, hi) into dst[lo, hi).
+     */
+    static void merge(int[] src, int[] dst, int lo, int mid, int hi) {
+        if (mid == hi || src[mid - 1] <= src[mid]) {
+            System.arraycopy(src, lo, dst, lo, hi - lo);
+            return;
+        }
+        int i1 = lo;
+        int i2 = mid;
+        for (int i = lo; i < hi; i++) {
+            if (i2 == hi || (i1 < mid && src[i1] <= src[i2])) {
+                dst[i] = src[i1++];
+            } else {
+                dst[i] = src[i2++];
+            }
+        }
+    }
+
+    public int[] doCountedSorting(int[] data, OperationCounter counter) {
+        if (checkNull(data))
+            return new int[0];
+        if (data.length > INSERTION_SORT_THRESHOLD) {
+            counter.allocatedElements += data.length;
+            sort(data, new int[data.length], 0, data.length, counter);
+        } else {
+            insertionSort(data, 0, data.length, counter);
+        }
+        return data;
+    }
+
+    /**
+     * Counting kernel of {@link #sort(int[], int[], int, int)}.
+     */
+    static void sort(int[] data, int[] buffer, int from, int to, OperationCounter counter) {
+        for (int lo = from; lo < to; lo += INSERTION_SORT_THRESHOLD) {
+            insertionSort(data, lo, Math.min(lo + INSERTION_SORT_THRESHOLD, to), counter);
+        }
+        int n = to - from;
+        int[] src = data;
+        int[] dst = buffer;
+        for (int width = INSERTION_SORT_THRESHOLD; width < n; width = width > n / 2 ? n : width * 2) {
+            for (int lo = from; lo < to; ) {
+                int mid = (int) Math.min(to, (long) lo + width);
+                int hi = (int) Math.min(to, (long) mid + width);
+                merge(src, dst, lo, mid, hi, counter);
+                lo = hi;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != data) {
+            System.arraycopy(src, from, data, from, n);
+            counter.moves += n;
+        }
+    }
+
+    private static void insertionSort(int[] data, int lo, int hi, OperationCounter counter) {
+        for (int i = lo + 1; i < hi; i++) {
+            int value = data[i];
+            int j = i - 1;
+            while (j >= lo && counter.compared(data[j] > value)) {
+                data[j + 1] = data[j];
+                counter.moves++;
+                j--;
+            }
+            data[j + 1] = value;
+            counter.moves++;
+        }
+    }
+
+    private static void merge(int[] src, int[] dst, int lo, int mid, int hi, OperationCounter counter) {
+        if (mid == hi || counter.compared(src[mid - 1] <= src[mid])) {
+            System.arraycopy(src, lo, dst, lo, hi - lo);
+            counter.moves += hi - lo;
+            return;
+        }
+        int i1 = lo;
+        int i2 = mid;
+        for (int i = lo; i < hi; i++) {
+            if (i2 == hi || (i1 < mid && counter.compared(src[i1] <= src[i2]))) {
+                dst[i] = src[i1++];
+            } else {
+                dst[i] = src[i2++];
+            }
+        }
+        counter.moves += hi - lo;
+    }
+}
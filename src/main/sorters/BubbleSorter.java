@@ -4,9 +4,9 @@ package main.sorters;
  * Abstract class, representing bubble sorting algorithm.
  *
  * @author Dmytro Storozhenko
- * @version 1.1
+ * @version 1.2
  */
-public abstract class BubbleSorter extends Sorter {
+public abstract class BubbleSorter extends Sorter implements InstrumentedSorter {
     int[] data;
 
     public int[] doSorting(int[] array) {
@@ -28,6 +28,27 @@ public abstract class BubbleSorter extends Sorter {
         return data;
     }
 
+    public int[] doCountedSorting(int[] array, OperationCounter counter) {
+        this.data = array;
+        if (checkNull(data))
+            return new int[0];
+        initPointers();
+        int i = nextI();
+        while (i >= 0) {
+            int j = nextJ();
+            while (j >= 0) {
+                counter.comparisons++;
+                if (isSwapNeeded()) {
+                    counter.swaps++;
+                    swap();
+                }
+                j = nextJ();
+            }
+            i = nextI();
+        }
+        return data;
+    }
+
     /**
      * Sets pointers to initial value.
      */
@@ -0,0 +1,81 @@
+package main.sorters;
+
+/**
+ * Class, representing cocktail shaker sorting algorithm: bubble sorting, that alternately moves the biggest
+ * elements to the end and the smallest elements to the beginning of the array.
+ * <p>
+ * Like {@link AdaptiveBubbleUpSorter} and {@link AdaptiveBubbleDownSorter}, narrows sorted range
+ * by positions of the last swaps on both sides and stops after the first pass without swaps.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public final class CocktailShakerSorter extends Sorter implements InstrumentedSorter {
+    public int[] doSorting(int[] data) {
+        if (checkNull(data))
+            return new int[0];
+        int lo = 0;
+        int hi = data.length - 1;
+        while (lo < hi) {
+            int lastSwap = lo;
+            for (int j = lo; j < hi; j++) {
+                int left = data[j];
+                int right = data[j + 1];
+                if (left > right) {
+                    data[j] = right;
+                    data[j + 1] = left;
+                    lastSwap = j;
+                }
+            }
+            hi = lastSwap;
+            lastSwap = hi;
+            for (int j = hi; j > lo; j--) {
+                int left = data[j - 1];
+                int right = data[j];
+                if (left > right) {
+                    data[j - 1] = right;
+                    data[j] = left;
+                    lastSwap = j;
+                }
+            }
+            lo = lastSwap;
+        }
+        return data;
+    }
+
+    public int[] doCountedSorting(int[] data, OperationCounter counter) {
+        if (checkNull(data))
+            return new int[0];
+        int lo = 0;
+        int hi = data.length - 1;
+        while (lo < hi) {
+            int lastSwap = lo;
+            for (int j = lo; j < hi; j++) {
+                int left = data[j];
+                int right = data[j + 1];
+                counter.comparisons++;
+                if (left > right) {
+                    counter.swaps++;
+                    data[j] = right;
+                    data[j + 1] = left;
+                    lastSwap = j;
+                }
+            }
+            hi = lastSwap;
+            lastSwap = hi;
+            for (int j = hi; j > lo; j--) {
+                int left = data[j - 1];
+                int right = data[j];
+                counter.comparisons++;
+                if (left > right) {
+                    counter.swaps++;
+                    data[j - 1] = right;
+                    data[j] = left;
+                    lastSwap = j;
+                }
+            }
+            lo = lastSwap;
+        }
+        return data;
+    }
+}
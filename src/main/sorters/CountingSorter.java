@@ -0,0 +1,96 @@
+package main.sorters;
+
+/**
+ * Class, representing counting sorting algorithm.
+ * <p>
+ * Counts occurrences of every value between minimum and maximum and rewrites the array from the counts.
+ * Is applicable if the values range is not bigger than array size, otherwise array is sorted by {@link RadixSorter},
+ * so that memory for counts never exceeds memory of the array.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public final class CountingSorter extends Sorter implements InstrumentedSorter {
+
+    public int[] doSorting(int[] data) {
+        if (checkNull(data))
+            return new int[0];
+        if (data.length < 2) {
+            return data;
+        }
+        int min = data[0];
+        int max = data[0];
+        for (int value : data) {
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        if (isApplicable(min, max, data.length)) {
+            sort(data, 0, data.length, min, max);
+        } else {
+            RadixSorter.sort(data, new int[data.length], 0, data.length, min, RadixSorter.getBitsCount(min, max));
+        }
+        return data;
+    }
+
+    public int[] doCountedSorting(int[] data, OperationCounter counter) {
+        if (checkNull(data))
+            return new int[0];
+        if (data.length < 2) {
+            return data;
+        }
+        int min = data[0];
+        int max = data[0];
+        for (int value : data) {
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        counter.comparisons += 2L * data.length;
+        if (isApplicable(min, max, data.length)) {
+            sort(data, 0, data.length, min, max, counter);
+        } else {
+            counter.allocatedElements += data.length;
+            RadixSorter.sort(data, new int[data.length], 0, data.length, min, RadixSorter.getBitsCount(min, max),
+                    counter);
+        }
+        return data;
+    }
+
+    /**
+     * Checks if counting sort should be used for values from min to max.
+     *
+     * @param min minimum value
+     * @param max maximum value
+     * @param length number of values
+     * @return true if the values range is not bigger than number of values
+     */
+    static boolean isApplicable(int min, int max, int length) {
+        return (long) max - min < length;
+    }
+
+    /**
+     * Sorts elements of the passed array from index from (inclusive) to index to (exclusive),
+     * which values are between min and max.
+     */
+    static void sort(int[] data, int from, int to, int min, int max) {
+        int[] counts = new int[max - min + 1];
+        for (int i = from; i < to; i++) {
+            counts[data[i] - min]++;
+        }
+        int i = from;
+        for (int key = 0; key < counts.length; key++) {
+            for (int count = counts[key]; count > 0; count--) {
+                data[i++] = key + min;
+            }
+        }
+    }
+
+    /**
+     * Counting kernel of {@link #sort(int[], int, int, int, int)}.
+     * Counts are not elements of the array, so that only rewriting of the array is counted.
+     */
+    static void sort(int[] data, int from, int to, int min, int max, OperationCounter counter) {
+        sort(data, from, to, min, max);
+        counter.allocatedElements += (long) max - min + 1;
+        counter.moves += to - from;
+    }
+}
@@ -0,0 +1,35 @@
+package main.sorters;
+
+import main.offheap.BufferSorter;
+
+import java.nio.IntBuffer;
+
+/**
+ * Class, representing sorting of values in native memory by copying them to a Java array,
+ * sorting the array with {@link RecursiveSorter} and copying them back.
+ * <p>
+ * Is used in analysis as a baseline for {@link OffHeapRecursiveSorter}: the difference between them
+ * is the cost of copying minus the savings on array access compared to buffer access.
+ * Arrays, passed to {@link #doSorting(int[])}, are sorted on the heap without a direct buffer.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public final class HeapCopyRecursiveSorter extends Sorter implements BufferSorter {
+    private final RecursiveSorter sorter = new RecursiveSorter();
+
+    @Override
+    public int[] doSorting(int[] data) {
+        return sorter.doSorting(data);
+    }
+
+    @Override
+    public void sort(IntBuffer buffer) {
+        IntBuffer values = buffer.slice();
+        int[] data = new int[values.remaining()];
+        values.get(data);
+        sorter.doSorting(data);
+        values.clear();
+        values.put(data);
+    }
+}
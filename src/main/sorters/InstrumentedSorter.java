@@ -0,0 +1,23 @@
+package main.sorters;
+
+/**
+ * Interface for sorters, that have a separate counting kernel besides {@link Sorter#doSorting(int[])}.
+ * <p>
+ * The counting kernel performs the same operations in the same order as the sorting method
+ * and adds them to an {@link OperationCounter}, so that the sorting method itself contains
+ * no counting code and its measured time is not affected by instrumentation.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public interface InstrumentedSorter {
+
+    /**
+     * Sorts passed array in ascending order and adds performed operations to the counter.
+     *
+     * @param data array for sorting
+     * @param counter counter of operations
+     * @return array, sorted in ascending order, or array with zero length if null array is passed
+     */
+    int[] doCountedSorting(int[] data, OperationCounter counter);
+}
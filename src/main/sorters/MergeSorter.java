@@ -6,9 +6,9 @@ import java.util.Arrays;
  * Class, representing merge sorting algorithm.
  *
  * @author Dmytro Storozhenko
- * @version 1.0
+ * @version 1.1
  */
-public final class MergeSorter extends Sorter {
+public final class MergeSorter extends Sorter implements InstrumentedSorter {
 
     public int[] doSorting(int[] data){
         if (checkNull(data))
@@ -47,4 +47,46 @@ public final class MergeSorter extends Sorter {
         }
         return sortedArr;
     }
+
+    public int[] doCountedSorting(int[] data, OperationCounter counter) {
+        if (checkNull(data))
+            return new int[0];
+        return mergeSort(data, counter);
+    }
+
+    private int[] mergeSort(int[] data, OperationCounter counter) {
+        if (data.length < 2) {
+            return data;
+        }
+        int midIndex = data.length / 2;
+        int[] lHalf = Arrays.copyOfRange(data, 0, midIndex);
+        int[] rHalf = Arrays.copyOfRange(data, midIndex, data.length);
+        counter.allocatedElements += data.length;
+        counter.moves += data.length;
+        return merge(mergeSort(lHalf, counter), mergeSort(rHalf, counter), counter);
+    }
+
+    private int[] merge(int[] lPart, int[] rPart, OperationCounter counter) {
+        int n = lPart.length + rPart.length;
+        int[] sortedArr = new int[n];
+        counter.allocatedElements += n;
+        counter.moves += n;
+        int i1 = 0;
+        int i2 = 0;
+        for (int i = 0; i < n; i++) {
+            if (i1 == lPart.length) {
+                sortedArr[i] = rPart[i2++];
+            } else if (i2 == rPart.length) {
+                sortedArr[i] = lPart[i1++];
+            } else {
+                counter.comparisons++;
+                if (lPart[i1] < rPart[i2]) {
+                    sortedArr[i] = lPart[i1++];
+                } else {
+                    sortedArr[i] = rPart[i2++];
+                }
+            }
+        }
+        return sortedArr;
+    }
 }
@@ -0,0 +1,21 @@
+package main.sorters;
+
+import main.offheap.RadixBufferSorter;
+
+import java.nio.IntBuffer;
+
+/**
+ * Class, representing {@link RadixSorter} algorithm on values in native memory.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ * @see RadixBufferSorter
+ */
+public final class OffHeapRadixSorter extends OffHeapSorter {
+    private final RadixBufferSorter bufferSorter = new RadixBufferSorter();
+
+    @Override
+    public void sort(IntBuffer buffer) {
+        bufferSorter.sort(buffer);
+    }
+}
@@ -0,0 +1,21 @@
+package main.sorters;
+
+import main.offheap.QuickBufferSorter;
+
+import java.nio.IntBuffer;
+
+/**
+ * Class, representing {@link RecursiveSorter} algorithm on values in native memory.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ * @see QuickBufferSorter
+ */
+public final class OffHeapRecursiveSorter extends OffHeapSorter {
+    private final QuickBufferSorter bufferSorter = new QuickBufferSorter();
+
+    @Override
+    public void sort(IntBuffer buffer) {
+        bufferSorter.sort(buffer);
+    }
+}
@@ -0,0 +1,32 @@
+package main.sorters;
+
+import main.offheap.BufferSorter;
+
+import java.nio.IntBuffer;
+
+/**
+ * Abstract class, representing sorting algorithm, that sorts values in native memory.
+ * <p>
+ * {@link main.analyzer.Analyzer} measures such sorters through {@link BufferSorter#sort(IntBuffer)}
+ * on a direct buffer, that already contains the values, which corresponds to sorting of memory-mapped data
+ * in place. {@link #doSorting(int[])} copies the array to a direct buffer, sorts it and copies values back.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public abstract class OffHeapSorter extends Sorter implements BufferSorter {
+    private IntBuffer buffer;
+
+    public int[] doSorting(int[] data) {
+        if (checkNull(data))
+            return new int[0];
+        if (buffer == null || buffer.capacity() < data.length) {
+            buffer = BufferSorter.allocateDirect(data.length);
+        }
+        buffer.clear();
+        buffer.put(data).flip();
+        sort(buffer);
+        buffer.get(data);
+        return data;
+    }
+}
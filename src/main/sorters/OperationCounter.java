@@ -0,0 +1,75 @@
+package main.sorters;
+
+/**
+ * Counters of elementary operations, performed by an {@link InstrumentedSorter} during sorting:
+ * <ul>
+ *     <li>comparisons - comparisons of two elements or of an element and a pivot value;</li>
+ *     <li>moves - writes of a single element to the array or to an auxiliary array, except for swaps;</li>
+ *     <li>swaps - exchanges of two elements of the array, see {@link Sorter#swap(int[], int, int, OperationCounter)};</li>
+ *     <li>allocated elements - total length of auxiliary arrays, allocated during sorting.</li>
+ * </ul>
+ * Counts depend only on the sorted array, so they allow to compare versions of an algorithm without timing noise.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ */
+public final class OperationCounter {
+    long comparisons;
+    long moves;
+    long swaps;
+    long allocatedElements;
+
+    /**
+     * Creates counter with zero counts.
+     */
+    public OperationCounter() {
+    }
+
+    /**
+     * Creates counter with the passed counts, for example read from a file.
+     *
+     * @param comparisons number of comparisons
+     * @param moves number of moves
+     * @param swaps number of swaps
+     * @param allocatedElements total length of auxiliary arrays
+     */
+    public OperationCounter(long comparisons, long moves, long swaps, long allocatedElements) {
+        this.comparisons = comparisons;
+        this.moves = moves;
+        this.swaps = swaps;
+        this.allocatedElements = allocatedElements;
+    }
+
+    /**
+     * Counts a comparison and returns its result, so that comparisons in loop conditions can be counted.
+     *
+     * @param result result of the comparison
+     * @return the passed result
+     */
+    boolean compared(boolean result) {
+        comparisons++;
+        return result;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public long getSwaps() {
+        return swaps;
+    }
+
+    public long getAllocatedElements() {
+        return allocatedElements;
+    }
+
+    @Override
+    public String toString() {
+        return "comparisons=" + comparisons + ", moves=" + moves + ", swaps=" + swaps
+                + ", allocated=" + allocatedElements;
+    }
+}
@@ -0,0 +1,24 @@
+package main.sorters;
+
+import java.util.Arrays;
+
+/**
+ * Class that represents Java language parallel arrays sorting method.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.0
+ * @see java.util.Arrays#parallelSort(int[])
+ */
+public final class ParallelJavaSorter extends Sorter {
+    public int[] doSorting(int[] data) {
+        if (checkNull(data))
+            return new int[0];
+        Arrays.parallelSort(data);
+        return data;
+    }
+
+    @Override
+    public boolean isMultithreaded() {
+        return true;
+    }
+}
@@ -0,0 +1,177 @@
+package main.sorters;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class, representing parallel merge sorting algorithm, based on fork/join framework.
+ * <p>
+ * Both halves of every part are sorted in parallel, and sorted halves are merged in parallel too:
+ * the bigger half is split by its middle element, and the smaller half is split by binary search of this element,
+ * so that the two pairs of parts can be merged independently.
+ * Parts, that are not bigger than the sequential threshold, are sorted or merged sequentially
+ * in the same way as in {@link BottomUpMergeSorter}.
+ * <p>
+ * Sorting results are alternately written to the array and to a single auxiliary buffer on every recursion level,
+ * so that no copying is needed after merging.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public final class ParallelMergeSorter extends Sorter {
+    private static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /**
+     * Creates sorter, that uses {@link ForkJoinPool#commonPool()} and
+     * the default sequential threshold of {@value #DEFAULT_SEQUENTIAL_THRESHOLD} elements.
+     */
+    public ParallelMergeSorter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Creates sorter, that uses the passed pool and sequential threshold.
+     *
+     * @param pool pool for sorting tasks
+     * @param sequentialThreshold maximum size of parts, that are sorted and merged without splitting, must be greater than 0
+     * @throws IllegalArgumentException if sequential threshold is less than 1
+     */
+    public ParallelMergeSorter(ForkJoinPool pool, int sequentialThreshold) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("Sequential threshold must be greater than 0");
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    public int[] doSorting(int[] data) {
+        if (checkNull(data))
+            return new int[0];
+        if (data.length > 1) {
+            pool.invoke(new SortTask(data, new int[data.length], 0, data.length, false));
+        }
+        return data;
+    }
+
+    @Override
+    public boolean isMultithreaded() {
+        return true;
+    }
+
+    /**
+     * Task, that sorts range [lo, hi) of the array and places the result to the same range of the array
+     * or of the buffer.
+     */
+    private final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] data;
+        private final int[] buffer;
+        private final int lo;
+        private final int hi;
+        private final boolean toBuffer;
+
+        SortTask(int[] data, int[] buffer, int lo, int hi, boolean toBuffer) {
+            this.data = data;
+            this.buffer = buffer;
+            this.lo = lo;
+            this.hi = hi;
+            this.toBuffer = toBuffer;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= sequentialThreshold) {
+                BottomUpMergeSorter.sort(data, buffer, lo, hi);
+                if (toBuffer) {
+                    System.arraycopy(data, lo, buffer, lo, hi - lo);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask(data, buffer, lo, mid, !toBuffer),
+                    new SortTask(data, buffer, mid, hi, !toBuffer));
+            int[] src = toBuffer ? data : buffer;
+            int[] dst = toBuffer ? buffer : data;
+            new MergeTask(src, dst, lo, mid, mid, hi, lo).compute();
+        }
+    }
+
+    /**
+     * Task, that merges sorted ranges [lo1, hi1) and [lo2, hi2) of the source array
+     * to the destination array, starting from index dstLo.
+     */
+    private final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int dstLo;
+
+        MergeTask(int[] src, int[] dst, int lo1, int hi1, int lo2, int hi2, int dstLo) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dstLo = dstLo;
+        }
+
+        @Override
+        protected void compute() {
+            int size1 = hi1 - lo1;
+            int size2 = hi2 - lo2;
+            if (size1 + size2 <= sequentialThreshold) {
+                mergeSequentially();
+                return;
+            }
+            if (size1 < size2) {
+                new MergeTask(src, dst, lo2, hi2, lo1, hi1, dstLo).compute();
+                return;
+            }
+            int mid1 = (lo1 + hi1) >>> 1;
+            int pivot = src[mid1];
+            int mid2 = lowerBound(src, lo2, hi2, pivot);
+            int dstMid = dstLo + (mid1 - lo1) + (mid2 - lo2);
+            dst[dstMid] = pivot;
+            invokeAll(new MergeTask(src, dst, lo1, mid1, lo2, mid2, dstLo),
+                    new MergeTask(src, dst, mid1 + 1, hi1, mid2, hi2, dstMid + 1));
+        }
+
+        private void mergeSequentially() {
+            int i1 = lo1;
+            int i2 = lo2;
+            int end = dstLo + (hi1 - lo1) + (hi2 - lo2);
+            for (int i = dstLo; i < end; i++) {
+                if (i2 == hi2 || (i1 < hi1 && src[i1] <= src[i2])) {
+                    dst[i] = src[i1++];
+                } else {
+                    dst[i] = src[i2++];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns index of the first element in the sorted range [lo, hi) of the array, that is not less than the value.
+     */
+    private static int lowerBound(int[] array, int lo, int hi, int value) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
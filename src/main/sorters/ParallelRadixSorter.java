@@ -0,0 +1,152 @@
+package main.sorters;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Class, representing parallel MSD (most significant digit) radix sorting algorithm, based on fork/join framework.
+ * <p>
+ * Elements are distributed to {@value RadixSorter#RADIX} buckets by the most significant digit of the difference
+ * between element and minimum value: array is split into chunks, every chunk counts its own histogram and
+ * moves its elements to its own positions in the buckets, so chunks are processed in parallel.
+ * Then buckets are sorted in parallel by {@link RadixSorter} on the remaining digits.
+ * <p>
+ * Arrays, that are not bigger than the sequential threshold, are sorted by {@link RadixSorter} in the calling thread.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public final class ParallelRadixSorter extends Sorter {
+    private static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /**
+     * Creates sorter, that uses {@link ForkJoinPool#commonPool()} and
+     * the default sequential threshold of {@value #DEFAULT_SEQUENTIAL_THRESHOLD} elements.
+     */
+    public ParallelRadixSorter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Creates sorter, that uses the passed pool and sequential threshold.
+     *
+     * @param pool pool for sorting tasks
+     * @param sequentialThreshold maximum size of arrays, that are sorted in the calling thread, must be greater than 0
+     * @throws IllegalArgumentException if sequential threshold is less than 1
+     */
+    public ParallelRadixSorter(ForkJoinPool pool, int sequentialThreshold) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("Sequential threshold must be greater than 0");
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    public int[] doSorting(int[] data) {
+        if (checkNull(data))
+            return new int[0];
+        if (data.length <= sequentialThreshold) {
+            return new RadixSorter().doSorting(data);
+        }
+        int n = data.length;
+        int chunksCount = Math.max(1, Math.min(pool.getParallelism() * 4, n / sequentialThreshold));
+        int chunkSize = (n + chunksCount - 1) / chunksCount;
+        int[] chunkMin = new int[chunksCount];
+        int[] chunkMax = new int[chunksCount];
+        forEachParallel(chunksCount, chunk -> {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int i = chunk * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+                if (data[i] < min) min = data[i];
+                if (data[i] > max) max = data[i];
+            }
+            chunkMin[chunk] = min;
+            chunkMax[chunk] = max;
+        });
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int chunk = 0; chunk < chunksCount; chunk++) {
+            min = Math.min(min, chunkMin[chunk]);
+            max = Math.max(max, chunkMax[chunk]);
+        }
+        int base = min;
+        int lowBits = Math.max(0, RadixSorter.getBitsCount(min, max) - RadixSorter.DIGIT_BITS);
+
+        int[][] offsets = new int[chunksCount][RadixSorter.RADIX];
+        forEachParallel(chunksCount, chunk -> {
+            int[] counts = offsets[chunk];
+            for (int i = chunk * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+                counts[(data[i] - base) >>> lowBits]++;
+            }
+        });
+        int[] bucketStarts = new int[RadixSorter.RADIX + 1];
+        int offset = 0;
+        for (int digit = 0; digit < RadixSorter.RADIX; digit++) {
+            bucketStarts[digit] = offset;
+            for (int chunk = 0; chunk < chunksCount; chunk++) {
+                int count = offsets[chunk][digit];
+                offsets[chunk][digit] = offset;
+                offset += count;
+            }
+        }
+        bucketStarts[RadixSorter.RADIX] = n;
+
+        int[] buffer = new int[n];
+        forEachParallel(chunksCount, chunk -> {
+            int[] chunkOffsets = offsets[chunk];
+            for (int i = chunk * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+                int value = data[i];
+                buffer[chunkOffsets[(value - base) >>> lowBits]++] = value;
+            }
+        });
+        forEachParallel(RadixSorter.RADIX, digit -> {
+            int from = bucketStarts[digit];
+            int to = bucketStarts[digit + 1];
+            if (to - from > 1) {
+                RadixSorter.sort(buffer, data, from, to, base, lowBits);
+            }
+            System.arraycopy(buffer, from, data, from, to - from);
+        });
+        return data;
+    }
+
+    @Override
+    public boolean isMultithreaded() {
+        return true;
+    }
+
+    /**
+     * Performs the passed action for every index from 0 (inclusive) to count (exclusive) in the pool of the sorter.
+     */
+    private void forEachParallel(int count, IntConsumer action) {
+        pool.invoke(new ForEachTask(0, count, action));
+    }
+
+    private static final class ForEachTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+        private final int hi;
+        private final IntConsumer action;
+
+        ForEachTask(int lo, int hi, IntConsumer action) {
+            this.lo = lo;
+            this.hi = hi;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                action.accept(lo);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ForEachTask(lo, mid, action), new ForEachTask(mid, hi, action));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package main.sorters;
+
+/**
+ * Class, representing LSD (least significant digit) radix sorting algorithm.
+ * <p>
+ * Sorts by {@value #DIGIT_BITS}-bit digits of the difference between element and minimum value,
+ * so that negative values are sorted correctly and only the digits, that are needed to represent
+ * the values range, are processed. Histograms of all digits are counted in a single pass over the array,
+ * and passes, in which all elements have the same digit, are skipped.
+ * A single auxiliary buffer is allocated per sorting.
+ * <p>
+ * If the values range is small relative to array size, array is sorted by {@link CountingSorter} instead.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+public final class RadixSorter extends Sorter implements InstrumentedSorter {
+    static final int DIGIT_BITS = 8;
+    static final int RADIX = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    public int[] doSorting(int[] data) {
+        if (checkNull(data))
+            return new int[0];
+        if (data.length < 2) {
+            return data;
+        }
+        int min = data[0];
+        int max = data[0];
+        for (int value : data) {
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        if (CountingSorter.isApplicable(min, max, data.length)) {
+            CountingSorter.sort(data, 0, data.length, min, max);
+        } else {
+            sort(data, new int[data.length], 0, data.length, min, getBitsCount(min, max));
+        }
+        return data;
+    }
+
+    public int[] doCountedSorting(int[] data, OperationCounter counter) {
+        if (checkNull(data))
+            return new int[0];
+        if (data.length < 2) {
+            return data;
+        }
+        int min = data[0];
+        int max = data[0];
+        for (int value : data) {
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        counter.comparisons += 2L * data.length;
+        if (CountingSorter.isApplicable(min, max, data.length)) {
+            CountingSorter.sort(data, 0, data.length, min, max, counter);
+        } else {
+            counter.allocatedElements += data.length;
+            sort(data, new int[data.length], 0, data.length, min, getBitsCount(min, max), counter);
+        }
+        return data;
+    }
+
+    /**
+     * Returns number of bits, that are needed to represent difference between maximum and minimum values.
+     */
+    static int getBitsCount(int min, int max) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(max - min);
+    }
+
+    /**
+     * Sorts elements of the passed array from index from (inclusive) to index to (exclusive) by the lowest
+     * bits of difference between element and base value, using the same range of the passed buffer.
+     *
+     * @param data array for sorting
+     * @param buffer auxiliary array, which length is not less than {@code to}
+     * @param from index of the first element to be sorted
+     * @param to index after the last element to be sorted
+     * @param base value, that is not greater than any of sorted elements
+     * @param bits number of the lowest bits of difference, by which elements are sorted
+     */
+    static void sort(int[] data, int[] buffer, int from, int to, int base, int bits) {
+        int passes = (bits + DIGIT_BITS - 1) / DIGIT_BITS;
+        int n = to - from;
+        int[][] counts = new int[passes][RADIX];
+        for (int i = from; i < to; i++) {
+            int key = data[i] - base;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(key >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+        }
+        int[] src = data;
+        int[] dst = buffer;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * DIGIT_BITS;
+            int[] offsets = counts[pass];
+            if (offsets[((src[from] - base) >>> shift) & DIGIT_MASK] == n) {
+                continue;                       // all elements have the same digit
+            }
+            int offset = from;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = offsets[digit];
+                offsets[digit] = offset;
+                offset += count;
+            }
+            for (int i = from; i < to; i++) {
+                int value = src[i];
+                dst[offsets[((value - base) >>> shift) & DIGIT_MASK]++] = value;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != data) {
+            System.arraycopy(src, from, data, from, n);
+        }
+    }
+
+    /**
+     * Counting kernel of {@link #sort(int[], int[], int, int, int, int)}.
+     */
+    static void sort(int[] data, int[] buffer, int from, int to, int base, int bits, OperationCounter counter) {
+        int passes = (bits + DIGIT_BITS - 1) / DIGIT_BITS;
+        int n = to - from;
+        int[][] counts = new int[passes][RADIX];
+        counter.allocatedElements += (long) passes * RADIX;
+        for (int i = from; i < to; i++) {
+            int key = data[i] - base;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(key >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+        }
+        int[] src = data;
+        int[] dst = buffer;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * DIGIT_BITS;
+            int[] offsets = counts[pass];
+            if (offsets[((src[from] - base) >>> shift) & DIGIT_MASK] == n) {
+                continue;
+            }
+            int offset = from;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = offsets[digit];
+                offsets[digit] = offset;
+                offset += count;
+            }
+            for (int i = from; i < to; i++) {
+                int value = src[i];
+                dst[offsets[((value - base) >>> shift) & DIGIT_MASK]++] = value;
+            }
+            counter.moves += n;
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != data) {
+            System.arraycopy(src, from, data, from, n);
+            counter.moves += n;
+        }
+    }
+}
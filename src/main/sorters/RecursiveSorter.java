@@ -2,11 +2,20 @@ package main.sorters;
 
 /**
  * Class, representing recursive sorting algorithm.
+ * <p>
+ * Implemented as introsort: quicksort with median-of-three pivot (ninther for big parts)
+ * and three-way partitioning, so that elements equal to the pivot are excluded from further sorting.
+ * Only the smaller part is sorted recursively and the bigger one is sorted in the loop,
+ * so recursion depth does not exceed log2 of array size. If depth of partitioning exceeds 2 * log2 of array size,
+ * the part is sorted by heapsort, which guarantees O(n log n) time on any input.
+ * Parts of up to {@value #INSERTION_SORT_THRESHOLD} elements are sorted by insertion sort.
  *
  * @author Dmytro Storozhenko
- * @version 1.0
+ * @version 2.1
  */
-public final class RecursiveSorter extends Sorter {
+public final class RecursiveSorter extends Sorter implements InstrumentedSorter {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static final int NINTHER_THRESHOLD = 128;
     private int[] data;
 
     public int[] doSorting(int[] array) {
@@ -14,30 +23,203 @@ public final class RecursiveSorter extends Sorter {
         if (checkNull(data)) {
             return new int[0];
         }
-        recSort(0, data.length - 1);
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(data.length, 1)));
+        recSort(0, data.length - 1, depthLimit);
         return data;
     }
 
-    private void recSort(int left, int right) {
-        if (left >= right) {
-            return;
-        }
-        int i = left;
-        int j = right;
-        int S = i - (i - j) / 2;
-        while (i < j) {
-            while (data[i] <= data[S] && i < S) i++;
-            while (data[j] >= data[S] && j > S) j--;
-            if (i < j) {
-                swap(data, i, j);
-                if (i == S) {
-                    S = j;
-                } else if (j == S) {
-                    S = i;
+    private void recSort(int left, int right, int depthLimit) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(left, right);
+                return;
+            }
+            int pivot = data[selectPivot(left, right)];
+            int lt = left;
+            int gt = right;
+            int i = left;
+            while (i <= gt) {                   // [left, lt) < pivot, [lt, i) == pivot, (gt, right] > pivot
+                if (data[i] < pivot) {
+                    swap(data, lt++, i++);
+                } else if (data[i] > pivot) {
+                    swap(data, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (lt - left < right - gt) {
+                recSort(left, lt - 1, depthLimit);
+                left = gt + 1;
+            } else {
+                recSort(gt + 1, right, depthLimit);
+                right = lt - 1;
+            }
+        }
+        insertionSort(left, right);
+    }
+
+    /**
+     * Returns index of the pivot: median of the first, middle and last elements,
+     * or median of three such medians for parts bigger than {@value #NINTHER_THRESHOLD} elements.
+     */
+    private int selectPivot(int left, int right) {
+        int mid = left + (right - left) / 2;
+        if (right - left < NINTHER_THRESHOLD) {
+            return median(left, mid, right);
+        }
+        int step = (right - left) / 8;
+        return median(median(left, left + step, left + 2 * step),
+                median(mid - step, mid, mid + step),
+                median(right - 2 * step, right - step, right));
+    }
+
+    private int median(int a, int b, int c) {
+        if (data[a] < data[b]) {
+            return data[b] < data[c] ? b : (data[a] < data[c] ? c : a);
+        }
+        return data[a] < data[c] ? a : (data[b] < data[c] ? c : b);
+    }
+
+    private void insertionSort(int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            int value = data[i];
+            int j = i - 1;
+            while (j >= left && data[j] > value) {
+                data[j + 1] = data[j];
+                j--;
+            }
+            data[j + 1] = value;
+        }
+    }
+
+    private void heapSort(int left, int right) {
+        int n = right - left + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(left, i, n);
+        }
+        for (int last = n - 1; last > 0; last--) {
+            swap(data, left, left + last);
+            siftDown(left, 0, last);
+        }
+    }
+
+    /**
+     * Moves element with the passed index down the heap, that starts at offset and contains n elements.
+     */
+    private void siftDown(int offset, int i, int n) {
+        int value = data[offset + i];
+        while (2 * i + 1 < n) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && data[offset + child + 1] > data[offset + child]) {
+                child++;
+            }
+            if (data[offset + child] <= value) {
+                break;
+            }
+            data[offset + i] = data[offset + child];
+            i = child;
+        }
+        data[offset + i] = value;
+    }
+
+    public int[] doCountedSorting(int[] array, OperationCounter counter) {
+        data = array;
+        if (checkNull(data)) {
+            return new int[0];
+        }
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(data.length, 1)));
+        recSort(0, data.length - 1, depthLimit, counter);
+        return data;
+    }
+
+    private void recSort(int left, int right, int depthLimit, OperationCounter counter) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(left, right, counter);
+                return;
+            }
+            int pivot = data[selectPivot(left, right, counter)];
+            int lt = left;
+            int gt = right;
+            int i = left;
+            while (i <= gt) {
+                if (counter.compared(data[i] < pivot)) {
+                    swap(data, lt++, i++, counter);
+                } else if (counter.compared(data[i] > pivot)) {
+                    swap(data, i, gt--, counter);
+                } else {
+                    i++;
                 }
             }
+            if (lt - left < right - gt) {
+                recSort(left, lt - 1, depthLimit, counter);
+                left = gt + 1;
+            } else {
+                recSort(gt + 1, right, depthLimit, counter);
+                right = lt - 1;
+            }
+        }
+        insertionSort(left, right, counter);
+    }
+
+    private int selectPivot(int left, int right, OperationCounter counter) {
+        int mid = left + (right - left) / 2;
+        if (right - left < NINTHER_THRESHOLD) {
+            return median(left, mid, right, counter);
+        }
+        int step = (right - left) / 8;
+        return median(median(left, left + step, left + 2 * step, counter),
+                median(mid - step, mid, mid + step, counter),
+                median(right - 2 * step, right - step, right, counter), counter);
+    }
+
+    private int median(int a, int b, int c, OperationCounter counter) {
+        if (counter.compared(data[a] < data[b])) {
+            return counter.compared(data[b] < data[c]) ? b : (counter.compared(data[a] < data[c]) ? c : a);
+        }
+        return counter.compared(data[a] < data[c]) ? a : (counter.compared(data[b] < data[c]) ? c : b);
+    }
+
+    private void insertionSort(int left, int right, OperationCounter counter) {
+        for (int i = left + 1; i <= right; i++) {
+            int value = data[i];
+            int j = i - 1;
+            while (j >= left && counter.compared(data[j] > value)) {
+                data[j + 1] = data[j];
+                counter.moves++;
+                j--;
+            }
+            data[j + 1] = value;
+            counter.moves++;
+        }
+    }
+
+    private void heapSort(int left, int right, OperationCounter counter) {
+        int n = right - left + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(left, i, n, counter);
+        }
+        for (int last = n - 1; last > 0; last--) {
+            swap(data, left, left + last, counter);
+            siftDown(left, 0, last, counter);
+        }
+    }
+
+    private void siftDown(int offset, int i, int n, OperationCounter counter) {
+        int value = data[offset + i];
+        while (2 * i + 1 < n) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && counter.compared(data[offset + child + 1] > data[offset + child])) {
+                child++;
+            }
+            if (counter.compared(data[offset + child] <= value)) {
+                break;
+            }
+            data[offset + i] = data[offset + child];
+            counter.moves++;
+            i = child;
         }
-        recSort(left, S);
-        recSort(S + 1, right);
+        data[offset + i] = value;
+        counter.moves++;
     }
 }
@@ -3,7 +3,7 @@ package main.sorters;
 /**
  * Class for representing sorting algorithm.
  *
- * For algorithm's name correct displaying in {@link main.excel.ExcelExport#getOutputFile(java.util.TreeMap, int[])} file,
+ * For algorithm's name correct displaying in {@link main.excel.ExcelExport#getOutputFile(java.util.NavigableMap, int[])} file,
  * all implementation's names should consist of words, representing algorithms name, and the word "Sorter".
  *
  * All implementations return array with zero length if null array is passed for sorting.
@@ -28,6 +28,17 @@ public abstract class Sorter {
      */
     public abstract int[] doSorting(int[] data);
 
+    /**
+     * Method returns whether the sorter uses more than one thread for sorting.
+     * <p>
+     * Such sorters are measured by {@link main.analyzer.Analyzer} when no other sorters are measured.
+     *
+     * @return true if sorting is performed by several threads, false otherwise
+     */
+    public boolean isMultithreaded() {
+        return false;
+    }
+
     /**
      * Method changes two element's places in the passed array
      *
@@ -40,4 +51,18 @@ public abstract class Sorter {
         array[a] = array[b];
         array[b] = temp;
     }
+
+    /**
+     * Method changes two element's places in the passed array and counts the swap,
+     * is used by counting kernels of {@link InstrumentedSorter} implementations.
+     *
+     * @param array Array with elements
+     * @param a First element
+     * @param b Second element
+     * @param counter Counter of operations
+     */
+    static void swap(int[] array, int a, int b, OperationCounter counter) {
+        counter.swaps++;
+        swap(array, a, b);
+    }
 }
@@ -4,9 +4,9 @@ package main.sorters;
  * Class, representing swap soring algorithm.
  *
  * @author Dmytro Storozhenko
- * @version 1.0
+ * @version 1.1
  */
-public final class SwapSorter extends Sorter {
+public final class SwapSorter extends Sorter implements InstrumentedSorter {
     public int[] doSorting(int[] data) {
         if (checkNull(data))
             return new int[0];
@@ -22,4 +22,21 @@ public final class SwapSorter extends Sorter {
         }
         return data;
     }
+
+    public int[] doCountedSorting(int[] data, OperationCounter counter) {
+        if (checkNull(data))
+            return new int[0];
+        int minElemIndex;
+        for (int i = 0; i < data.length - 1; i++) {
+            minElemIndex = i;
+            for (int j = i + 1; j < data.length; j++) {
+                counter.comparisons++;
+                if (data[j] < data[minElemIndex]) {
+                    minElemIndex = j;
+                }
+            }
+            swap(data, i, minElemIndex, counter);
+        }
+        return data;
+    }
 }
@@ -0,0 +1,167 @@
+package main.registry;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.NoSuchFileException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor, that records all non-abstract subclasses of {@code main.sorters.Sorter} and
+ * all methods annotated with {@code main.fillers.Fillers.Filler} at compile time.
+ * <p>
+ * Results are written to the class output as index files, which are read by {@code main.registry.Registry}
+ * instead of scanning the classpath on startup:
+ * <ul>
+ *     <li>{@value #SORTERS_INDEX} - binary names of sorter classes, one per line;</li>
+ *     <li>{@value #FILLERS_INDEX} - filler methods in {@code binaryClassName#methodName} format, one per line.</li>
+ * </ul>
+ * The processor must be compiled separately and placed on the annotation processor path of the main sources.
+ * <p>
+ * An incremental compilation processes only the recompiled classes, so names of the index files, that are already
+ * in the class output, are kept, if their classes were not recompiled and still exist.
+ *
+ * @author Dmytro Storozhenko
+ * @version 1.1
+ */
+@SupportedAnnotationTypes("*")
+public class RegistryProcessor extends AbstractProcessor {
+    static final String SORTERS_INDEX = "META-INF/main/sorters.index";
+    static final String FILLERS_INDEX = "META-INF/main/fillers.index";
+    private static final String SORTER_CLASS = "main.sorters.Sorter";
+    private static final String FILLER_ANNOTATION = "main.fillers.Fillers.Filler";
+
+    private final Set<String> sorters = new TreeSet<>();
+    private final Set<String> fillers = new TreeSet<>();
+    private final Set<String> processedClasses = new HashSet<>();
+    private Set<String> previousSorters;
+    private Set<String> previousFillers;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (previousSorters == null) {
+            previousSorters = readIndex(SORTERS_INDEX);
+            previousFillers = readIndex(FILLERS_INDEX);
+        }
+        if (roundEnv.processingOver()) {
+            for (String sorter : previousSorters) {
+                if (isKept(sorter)) {
+                    sorters.add(sorter);
+                }
+            }
+            for (String filler : previousFillers) {
+                if (isKept(filler.substring(0, filler.indexOf('#')))) {
+                    fillers.add(filler);
+                }
+            }
+            writeIndex(SORTERS_INDEX, sorters);
+            writeIndex(FILLERS_INDEX, fillers);
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement) {
+                processedClasses.add(getBinaryName(element));
+            }
+        }
+        TypeElement sorterElement = processingEnv.getElementUtils().getTypeElement(SORTER_CLASS);
+        if (sorterElement != null) {
+            TypeMirror sorterType = processingEnv.getTypeUtils().erasure(sorterElement.asType());
+            for (Element element : roundEnv.getRootElements()) {
+                if (element.getKind() == ElementKind.CLASS
+                        && !element.getModifiers().contains(Modifier.ABSTRACT)
+                        && processingEnv.getTypeUtils().isSubtype(element.asType(), sorterType)) {
+                    sorters.add(getBinaryName(element));
+                }
+            }
+        }
+        TypeElement fillerElement = processingEnv.getElementUtils().getTypeElement(FILLER_ANNOTATION);
+        if (fillerElement != null) {
+            for (Element method : roundEnv.getElementsAnnotatedWith(fillerElement)) {
+                fillers.add(getBinaryName(method.getEnclosingElement()) + "#" + method.getSimpleName());
+            }
+        }
+        return false;
+    }
+
+    private String getBinaryName(Element typeElement) {
+        return processingEnv.getElementUtils().getBinaryName((TypeElement) typeElement).toString();
+    }
+
+    /**
+     * Checks if a name of the previous index must be written to the new index.
+     *
+     * @param className binary name of the class of the indexed sorter or filler
+     * @return true if the class was not processed by this compilation and still exists
+     */
+    private boolean isKept(String className) {
+        return !processedClasses.contains(className)
+                && processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')) != null;
+    }
+
+    /**
+     * Reads names from the index file, written to the class output by the previous compilation.
+     *
+     * @param indexName resource name of the index file
+     * @return names from the index file, empty if there is no such file
+     */
+    private Set<String> readIndex(String indexName) {
+        Set<String> names = new TreeSet<>();
+        try {
+            FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", indexName);
+            try (BufferedReader reader = new BufferedReader(index.openReader(true))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        names.add(line.trim());
+                    }
+                }
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            return names;
+        } catch (IOException | IllegalArgumentException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Registry index " + indexName + " was not read: " + e.getMessage());
+        }
+        return names;
+    }
+
+    /**
+     * Writes the passed names to the index file in class output, one name per line.
+     *
+     * @param indexName resource name of the index file
+     * @param names names to be written
+     */
+    private void writeIndex(String indexName, Set<String> names) {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", indexName);
+            try (PrintWriter writer = new PrintWriter(index.openWriter())) {
+                for (String name : names) {
+                    writer.println(name);
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Registry index " + indexName + " was not written: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package main;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BatchRunnerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void sweepsFromConfigAndArguments() throws Exception {
+        Path config = folder.newFile("batch.properties").toPath();
+        Path small = folder.getRoot().toPath().resolve("small.csv");
+        Path report = folder.getRoot().toPath().resolve("small.xlsx");
+        Path large = folder.getRoot().toPath().resolve("large.jsonl");
+        Path journal = folder.getRoot().toPath().resolve("large.journal");
+        Files.write(config, ("sweeps=small,large\n"
+                + "sorters=MergeSorter,RadixSorter\n"
+                + "fillers=getSorted\n"
+                + "warmup=0\n"
+                + "measured=2\n"
+                + "steps=2\n"
+                + "sweep.small.min=10\n"
+                + "sweep.small.max=100\n"
+                + "sweep.small.sinks=csv:" + small + ",xlsx:" + report + "\n"
+                + "sweep.large.min=1000\n"
+                + "sweep.large.max=2000\n").getBytes(StandardCharsets.UTF_8));
+        Properties properties = BatchRunner.parseArguments(new String[]{"--config=" + config,
+                "--sweep.large.steps=3", "--sweep.large.sinks=jsonl:" + large, "--sweep.large.journal=" + journal});
+
+        assertEquals(0, BatchRunner.run(properties));
+        assertEquals(1 + 2 * 2, Files.readAllLines(small, StandardCharsets.UTF_8).size());
+        assertTrue(Files.size(report) > 0);
+        assertEquals(2 * 3, Files.readAllLines(large, StandardCharsets.UTF_8).size());
+        assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    public void invalidConfiguration() throws Exception {
+        Properties properties = BatchRunner.parseArguments(new String[]{"--min=10", "--max=100", "--steps=2",
+                "--sorters=UnknownSorter"});
+        assertEquals(BatchRunner.EXIT_INVALID_CONFIGURATION, BatchRunner.run(properties));
+
+        properties = BatchRunner.parseArguments(new String[]{"--min=10", "--steps=2"});
+        assertEquals(BatchRunner.EXIT_INVALID_CONFIGURATION, BatchRunner.run(properties));
+
+        properties = BatchRunner.parseArguments(new String[]{"--min=10", "--max=100", "--steps=2",
+                "--sorters=MergeSorter", "--fillers=getSorted", "--sinks=csv"});
+        assertEquals(BatchRunner.EXIT_INVALID_CONFIGURATION, BatchRunner.run(properties));
+        assertFalse(Files.exists(Paths.get("csv")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidArgument() throws Exception {
+        BatchRunner.parseArguments(new String[]{"min=10"});
+    }
+}
@@ -0,0 +1,164 @@
+package main.analyzer;
+
+import main.excel.StreamingExcelExport;
+import main.fillers.ArrayFiller;
+import main.output.CsvSink;
+import main.output.ExcelSink;
+import main.output.ResultJournal;
+import main.registry.Registry;
+import main.sorters.MergeSorter;
+import main.sorters.Sorter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AnalyzerTest {
+    private static final File OUTPUT_DIRECTORY = new File("out", "output");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private final List<File> createdDirectories = new ArrayList<>();
+
+    public static class FailingSorter extends Sorter {
+        @Override
+        public int[] doSorting(int[] data) {
+            throw new IllegalStateException("Sorter failure");
+        }
+    }
+
+    @Before
+    public void createOutputDirectory() {
+        for (File directory : new File[]{OUTPUT_DIRECTORY.getParentFile(), OUTPUT_DIRECTORY}) {
+            if (directory.mkdir()) {
+                createdDirectories.add(0, directory);
+            }
+        }
+    }
+
+    @After
+    public void deleteOutputDirectory() throws Exception {
+        if (!createdDirectories.isEmpty()) {
+            Files.deleteIfExists(new File(OUTPUT_DIRECTORY, "Sorting Analysis.xlsx").toPath());
+        }
+        for (File directory : createdDirectories) {
+            Files.deleteIfExists(directory.toPath());
+        }
+    }
+
+    private static Analyzer createAnalyzer() {
+        Set<Class<? extends Sorter>> sorterClasses = new LinkedHashSet<>(Arrays.asList(MergeSorter.class,
+                FailingSorter.class));
+        Map<String, ArrayFiller> fillers = Collections.singletonMap("getSorted",
+                Registry.getInstance().getFillers().get("getSorted"));
+        Analyzer analyzer = new Analyzer(sorterClasses, fillers);
+        analyzer.setRecordingFile(null);
+        analyzer.setWarmupIterations(0);
+        analyzer.setMeasuredIterations(2);
+        return analyzer;
+    }
+
+    @Test
+    public void failedCells() throws Exception {
+        for (boolean rows : new boolean[]{false, true}) {
+            Analyzer analyzer = createAnalyzer();
+            if (rows) {
+                analyzer.setCellTimeBudget(10, TimeUnit.SECONDS);
+            }
+            Path csvFile = folder.getRoot().toPath().resolve("result" + rows + ".csv");
+            analyzer.addSink(new CsvSink(csvFile));
+            ExcelSink excelSink = new ExcelSink();
+            analyzer.addSink(excelSink);
+            analyzer.startAnalysis(10, 100, 3);
+
+            assertEquals(3, analyzer.getFailedCellsCount());
+            for (TimeStatistics statistics : analyzer.getAnalysisResult().get("getSorted").get("FailingSorter")) {
+                assertTrue(statistics.isFailed());
+            }
+            for (TimeStatistics statistics : analyzer.getAnalysisResult().get("getSorted").get("MergeSorter")) {
+                assertFalse(statistics.isFailed());
+            }
+            List<String> lines = Files.readAllLines(csvFile, StandardCharsets.UTF_8);
+            assertEquals(1 + 2 * 3, lines.size());
+            assertTrue(excelSink.getOutputFile().isFile());
+            assertTrue(new StreamingExcelExport().getOutputFile(analyzer.getAnalysisResult(),
+                    analyzer.getLengthSteps()).isFile());
+        }
+    }
+
+    @Test
+    public void failedFork() throws Exception {
+        Analyzer analyzer = createAnalyzer();
+        analyzer.setSorterFilter(Collections.singletonList("MergeSorter"));
+        analyzer.setForkMode(ForkMode.PER_SORTER);
+        analyzer.setForkJvmArguments(Collections.singletonList("-XX:+UnknownJvmOption"));
+        Path csvFile = folder.getRoot().toPath().resolve("result.csv");
+        analyzer.addSink(new CsvSink(csvFile));
+        analyzer.startAnalysis(10, 100, 3);
+
+        assertEquals(3, analyzer.getFailedCellsCount());
+        for (TimeStatistics statistics : analyzer.getAnalysisResult().get("getSorted").get("MergeSorter")) {
+            assertTrue(statistics.isFailed());
+        }
+        assertEquals(1 + 3, Files.readAllLines(csvFile, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void fork() throws Exception {
+        Analyzer analyzer = createAnalyzer();
+        analyzer.setSorterFilter(Collections.singletonList("MergeSorter"));
+        analyzer.setForkMode(ForkMode.PER_SORTER);
+        analyzer.setForkJvmArguments(Collections.singletonList("-XX:+PrintCommandLineFlags"));
+        analyzer.startAnalysis(10, 100, 3);
+
+        assertEquals(0, analyzer.getFailedCellsCount());
+        for (TimeStatistics statistics : analyzer.getAnalysisResult().get("getSorted").get("MergeSorter")) {
+            assertEquals(2, statistics.getIterations());
+        }
+    }
+
+    @Test
+    public void forkResume() throws Exception {
+        Analyzer analyzer = createAnalyzer();
+        analyzer.setSorterFilter(Collections.singletonList("MergeSorter"));
+        analyzer.setForkMode(ForkMode.PER_SORTER);
+        analyzer.startAnalysis(10, 100, 3);
+        ResultJournal journal = new ResultJournal(folder.getRoot().toPath().resolve("fork.journal"));
+        journal.open(analyzer.getParametersFingerprint(), analyzer.getLengthSteps());
+        journal.append(new CellResult("getSorted", "MergeSorter", 1, analyzer.getLengthSteps()[1],
+                TimeStatistics.of(new long[]{5, 7, 9})));
+        journal.close();
+
+        Analyzer resumed = createAnalyzer();
+        resumed.setSorterFilter(Collections.singletonList("MergeSorter"));
+        resumed.setForkMode(ForkMode.PER_SORTER);
+        resumed.setJournal(journal);
+        Path csvFile = folder.getRoot().toPath().resolve("result.csv");
+        resumed.addSink(new CsvSink(csvFile));
+        resumed.startAnalysis(10, 100, 3);
+
+        TimeStatistics[] statistics = resumed.getAnalysisResult().get("getSorted").get("MergeSorter");
+        assertEquals(2, statistics[0].getIterations());
+        assertEquals(3, statistics[1].getIterations());
+        assertEquals(2, statistics[2].getIterations());
+        assertEquals(1 + 3, Files.readAllLines(csvFile, StandardCharsets.UTF_8).size());
+    }
+}
@@ -0,0 +1,47 @@
+package main.analyzer;
+
+import org.junit.Test;
+
+import java.nio.IntBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BufferPoolTest {
+
+    @Test
+    public void reuseAndEviction() throws Exception {
+        BufferPool pool = new BufferPool(3000 * Integer.BYTES);
+        int[] small = pool.get(1000);
+        int[] big = pool.get(2000);
+        assertEquals(1000, small.length);
+        assertSame(big, pool.get(2000));
+        assertSame(small, pool.get(1000));
+
+        pool.get(500);                      // 1000 is used more recently than 2000, so 2000 is dropped
+        assertSame(small, pool.get(1000));
+        assertNotSame(big, pool.get(2000));
+
+        int[] huge = pool.get(10000);       // bigger than the limit, but the last array is always kept
+        assertSame(huge, pool.get(10000));
+    }
+
+    @Test
+    public void directBuffers() throws Exception {
+        BufferPool pool = new BufferPool(3000 * Integer.BYTES);
+        IntBuffer direct = pool.getDirect(1000);
+        assertTrue(direct.isDirect());
+        assertEquals(1000, direct.remaining());
+        direct.position(10);
+        assertSame(direct, pool.getDirect(1000));
+        assertEquals(0, direct.position());
+        int[] array = pool.get(1000);
+        assertSame(array, pool.get(1000));
+
+        pool.getDirect(1500);               // arrays and buffers share the limit, the least recent buffer is dropped
+        assertSame(array, pool.get(1000));
+        assertNotSame(direct, pool.getDirect(1000));
+    }
+}
@@ -0,0 +1,54 @@
+package main.analyzer;
+
+import main.sorters.OperationCounter;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ForkedAnalysisTest {
+
+    @Test
+    public void framesRoundTrip() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ForkedAnalysis.FrameSink sink = new ForkedAnalysis.FrameSink(output);
+        sink.start(new int[]{100, 200});
+        sink.accept(new CellResult("getSorted", "MergeSorter", 1, 200, TimeStatistics.of(new long[]{5, 7, 9}),
+                new MemoryStatistics(1024, 1, 2, 1), new OperationCounter(10, 20, 0, 200)));
+        sink.accept(new CellResult("getSorted", "MergeSorter", 0, 100, TimeStatistics.SKIPPED));
+        sink.finish();
+
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(output.toByteArray()));
+        CellResult measured = ForkedAnalysis.readFrame(input);
+        assertEquals("MergeSorter", measured.getSorterName());
+        assertEquals(1, measured.getLengthIndex());
+        assertEquals(7, measured.getTimeStatistics().getMedian());
+        assertEquals(1024, measured.getMemoryStatistics().getAllocatedBytes());
+        assertEquals(10, measured.getOperationCounts().getComparisons());
+        assertTrue(ForkedAnalysis.readFrame(input).getTimeStatistics().isSkipped());
+        assertNull(ForkedAnalysis.readFrame(input));
+    }
+
+    @Test(expected = EOFException.class)
+    public void truncatedFrame() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ForkedAnalysis.FrameSink(output).accept(new CellResult("getSorted", "MergeSorter", 0, 100,
+                TimeStatistics.of(new long[]{1})));
+        byte[] frames = output.toByteArray();
+        ForkedAnalysis.readFrame(new DataInputStream(new ByteArrayInputStream(Arrays.copyOf(frames, frames.length - 1))));
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidFrame() throws Exception {
+        byte[] output = "CompilerOracle: exclude main/sorters/MergeSorter.doSorting\n".getBytes("US-ASCII");
+        ForkedAnalysis.readFrame(new DataInputStream(new ByteArrayInputStream(output)));
+    }
+}
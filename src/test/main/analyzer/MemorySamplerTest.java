@@ -0,0 +1,49 @@
+package main.analyzer;
+
+import org.junit.Test;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MemorySamplerTest {
+    private static int[] sink;
+
+    @Test
+    public void allocationAndGc() throws Exception {
+        MemorySampler sampler = new MemorySampler();
+        sampler.beforeRun();
+        sink = new int[1 << 20];
+        sampler.afterRun(false);
+        for (int k = 0; k < 2; k++) {
+            sampler.beforeRun();
+            sink = new int[1 << 20];
+            sampler.afterRun(true);
+        }
+        MemoryStatistics statistics = sampler.getStatistics(2);
+        assertTrue(statistics.getAllocatedBytes() >= 4 << 20);
+        assertTrue(statistics.getAllocatedBytes() < 5 << 20);
+        // a collection may be triggered by garbage of other tests, but it must be reported consistently
+        assertEquals(statistics.getGcCount() > 0, statistics.isGcAffected());
+
+        sampler.beforeRun();
+        long gcCount = getGcCount();
+        for (int i = 0; i < 100_000 && getGcCount() == gcCount; i++) {
+            sink = new int[1 << 16];
+        }
+        sampler.afterRun(true);
+        statistics = sampler.getStatistics(3);
+        assertTrue(statistics.getGcAffectedRuns() >= 1);
+        assertTrue(statistics.getGcCount() >= 1);
+    }
+
+    private static long getGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gcBean.getCollectionCount());
+        }
+        return count;
+    }
+}
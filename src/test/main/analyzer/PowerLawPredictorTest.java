@@ -0,0 +1,23 @@
+package main.analyzer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PowerLawPredictorTest {
+
+    @Test
+    public void predict() throws Exception {
+        int[] lengths = {1000, 2000, 4000, 8000};
+        long[] quadraticTimes = {1000000, 4000000, 16000000, 64000000};
+        assertEquals(0, PowerLawPredictor.predict(lengths, quadraticTimes, 0, 1000), 0);
+        assertEquals(4000000, PowerLawPredictor.predict(lengths, quadraticTimes, 1, 2000), 1);
+        assertEquals(256000000, PowerLawPredictor.predict(lengths, quadraticTimes, 4, 16000), 1);
+
+        long[] linearTimes = {1000, 2100, 3900, 8000};
+        assertEquals(16000, PowerLawPredictor.predict(lengths, linearTimes, 4, 16000), 1000);
+
+        long[] constantTimes = {1000, 1000, 1000, 1000};
+        assertEquals(2000, PowerLawPredictor.predict(lengths, constantTimes, 4, 16000), 1);
+    }
+}
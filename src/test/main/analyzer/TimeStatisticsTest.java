@@ -0,0 +1,32 @@
+package main.analyzer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TimeStatisticsTest {
+
+    @Test
+    public void of() throws Exception {
+        long[] samples = {50, 10, 40, 20, 30, 60, 70, 80, 90, 100};
+        TimeStatistics statistics = TimeStatistics.of(samples);
+        assertEquals(10, statistics.getIterations());
+        assertEquals(10, statistics.getMin());
+        assertEquals(100, statistics.getMax());
+        assertEquals(55, statistics.getMedian());
+        assertEquals(55.0, statistics.getMean(), 1e-9);
+        assertEquals(90, statistics.getP90());
+        assertEquals(100, statistics.getP99());
+        assertEquals(30.2765, statistics.getStdDev(), 1e-4);
+        assertEquals(2.262 * 30.2765 / Math.sqrt(10), statistics.getConfidenceInterval(), 1e-3);
+    }
+
+    @Test
+    public void ofSingleSample() throws Exception {
+        TimeStatistics statistics = TimeStatistics.of(new long[]{42});
+        assertEquals(42, statistics.getMedian());
+        assertEquals(42, statistics.getP99());
+        assertEquals(0.0, statistics.getStdDev(), 0);
+        assertEquals(0.0, statistics.getConfidenceInterval(), 0);
+    }
+}
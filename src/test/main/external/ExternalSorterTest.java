@@ -0,0 +1,95 @@
+package main.external;
+
+import main.sorters.JavaSorter;
+import main.sorters.MergeSorter;
+import main.sorters.RecursiveSorter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ExternalSorterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path writeInts(int[] values) throws IOException {
+        Path file = folder.newFile().toPath();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            for (int value : values) {
+                out.writeInt(value);
+            }
+        }
+        return file;
+    }
+
+    private int[] readInts(Path file) throws IOException {
+        int[] values = new int[(int) (Files.size(file) / Integer.BYTES)];
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = in.readInt();
+            }
+        }
+        return values;
+    }
+
+    @Test
+    public void sort() throws Exception {
+        int[] values = new Random(42).ints(1000000).toArray();
+        values[0] = Integer.MAX_VALUE;
+        values[1] = Integer.MIN_VALUE;
+        Path input = writeInts(values);
+        Path output = folder.getRoot().toPath().resolve("sorted.bin");
+        Arrays.sort(values);
+
+        ExternalSorter sorter = new ExternalSorter(new RecursiveSorter());
+        sorter.setMemoryBudget(1024 * 1024);
+        sorter.setFanIn(4);
+        sorter.setTempDirectory(folder.getRoot().toPath());
+        sorter.sort(input, output);
+        assertArrayEquals(values, readInts(output));
+
+        sorter = new ExternalSorter(new MergeSorter());
+        sorter.setTempDirectory(folder.getRoot().toPath());
+        sorter.sort(input, output);
+        assertArrayEquals(values, readInts(output));
+        assertEquals(2, Files.list(folder.getRoot().toPath()).count());     // input and output, no runs left
+    }
+
+    @Test
+    public void sortEmpty() throws Exception {
+        Path input = writeInts(new int[0]);
+        Path output = folder.getRoot().toPath().resolve("sorted.bin");
+        ExternalSorter sorter = new ExternalSorter(new JavaSorter());
+        sorter.setTempDirectory(folder.getRoot().toPath());
+        sorter.sort(input, output);
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    public void loserTree() throws Exception {
+        long[] keys = {5, LoserTree.EXHAUSTED, 1, 3};
+        LoserTree loserTree = new LoserTree(keys);
+        assertEquals(2, loserTree.getWinner());
+        loserTree.replaceWinnerKey(4);
+        assertEquals(3, loserTree.getWinnerKey());
+        loserTree.replaceWinnerKey(LoserTree.EXHAUSTED);
+        assertEquals(4, loserTree.getWinnerKey());
+        loserTree.replaceWinnerKey(LoserTree.EXHAUSTED);
+        assertEquals(5, loserTree.getWinnerKey());
+        loserTree.replaceWinnerKey(LoserTree.EXHAUSTED);
+        assertEquals(LoserTree.EXHAUSTED, loserTree.getWinnerKey());
+    }
+}
@@ -0,0 +1,33 @@
+package main.fillers;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class DatasetCacheTest {
+
+    @Test
+    public void get() throws Exception {
+        DatasetCache cache = new DatasetCache(3 * 1000 * Integer.BYTES);
+        int[] random = cache.get("getRandom", 1000, 1, Fillers::getRandom);
+        assertArrayEquals(Fillers.getRandom(new int[1000], 1), random);
+        assertSame(random, cache.get("getRandom", 1000, 1, Fillers::getRandom));
+        assertNotSame(random, cache.get("getRandom", 1000, 2, Fillers::getRandom));
+        cache.get("getZipf(2.0)", 1000, 1, (target, seed) -> Fillers.getZipf(target, seed, 2.0));
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertEquals(0, cache.getEvictions());
+
+        cache.get("getRandom", 1000, 1, Fillers::getRandom);
+        cache.get("getSorted", 1000, 1, Fillers::getSorted);
+        assertEquals(1, cache.getEvictions());
+        assertEquals(3 * 1000 * Integer.BYTES, cache.getSize());
+        assertSame(random, cache.get("getRandom", 1000, 1, Fillers::getRandom));
+        cache.get("getRandom", 1001, 1, Fillers::getRandom);
+        assertEquals(3, cache.getEvictions());
+        assertEquals(5, cache.getMisses());
+    }
+}
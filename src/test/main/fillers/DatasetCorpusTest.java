@@ -0,0 +1,49 @@
+package main.fillers;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DatasetCorpusTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writeAndLoad() throws Exception {
+        Map<String, ArrayFiller> fillers = new LinkedHashMap<>();
+        fillers.put("getRandom", Fillers::getRandom);
+        fillers.put("getZipf", Fillers::getZipf);
+        int[] lengths = {1, 1000, 300001};
+        Path file = folder.newFile().toPath();
+        DatasetCorpus.write(file, fillers, lengths, 7);
+
+        try (DatasetCorpus corpus = DatasetCorpus.open(file)) {
+            assertEquals(6, corpus.size());
+            for (String fillerName : fillers.keySet()) {
+                for (int length : lengths) {
+                    long seed = Fillers.seed(7, fillerName, length, 0);
+                    assertTrue(corpus.contains(fillerName, length, seed));
+                    assertArrayEquals(fillers.get(fillerName).fill(new int[length], seed),
+                            corpus.load(fillerName, seed, new int[length]));
+                }
+            }
+            assertFalse(corpus.contains("getRandom", 1000, Fillers.seed(8, "getRandom", 1000, 0)));
+            try {
+                corpus.load("getSorted", 0, new int[1000]);
+                throw new AssertionError("Missing array was loaded");
+            } catch (IOException expected) {
+            }
+        }
+    }
+}
@@ -2,6 +2,13 @@ package main.fillers;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 public class FillersTest {
 
     @Test
@@ -15,7 +22,13 @@ public class FillersTest {
 
     @Test
     public void getNearlySorted() throws Exception {
-
+        int[] nearlySortedArray = Fillers.getNearlySorted(10000);
+        for (int i = 0; i < nearlySortedArray.length - 2; i++) {
+            if (nearlySortedArray[i] + 1 != nearlySortedArray[i + 1])
+                throw new Exception("Array is not nearly sorted");
+        }
+        int last = nearlySortedArray[nearlySortedArray.length - 1];
+        assertTrue(last >= 1 && last < nearlySortedArray.length);
     }
 
     @Test
@@ -29,7 +42,57 @@ public class FillersTest {
 
     @Test
     public void getRandom() throws Exception {
+        int[] randomArray = Fillers.getRandom(10000);
+        int[] sortedArray = Arrays.copyOf(randomArray, randomArray.length);
+        Arrays.sort(sortedArray);
+        assertArrayEquals(Fillers.getSorted(10000), sortedArray);
+        assertFalse(Arrays.equals(randomArray, sortedArray));
+    }
+
+    @Test
+    public void seededFillers() throws Exception {
+        long seed = Fillers.seed(7, "getRandom", 100000, 0);
+        int[] randomArray = Fillers.getRandom(new int[100000], seed);
+        assertArrayEquals(randomArray, Fillers.getRandom(new int[100000], seed));
+        assertFalse(Arrays.equals(randomArray, Fillers.getRandom(new int[100000], Fillers.seed(7, "getRandom", 100000, 1))));
 
+        int length = Fillers.PARALLEL_THRESHOLD + 1;
+        int[] reversedArray = Fillers.getReversed(new int[length], seed);
+        for (int i = 0; i < length; i++) {
+            if (reversedArray[i] != length - i)
+                throw new Exception("Array is not reversed");
+        }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void distributionFillers() throws Exception {
+        int length = 100000;
+        int[] zipfArray = Fillers.getZipf(new int[length], 1);
+        int ones = 0;
+        int big = 0;
+        for (int key : zipfArray) {
+            assertTrue(key >= 1 && key <= length);
+            if (key == 1) ones++;
+            if (key > length / 2) big++;
+        }
+        assertTrue(ones > big);
+        assertArrayEquals(zipfArray, Fillers.getZipf(new int[length], 1));
+        for (int key : Fillers.getZipf(new int[length], 1, 2.5)) {
+            assertTrue(key >= 1 && key <= length);
+        }
+
+        assertEquals(5, Arrays.stream(Fillers.getFewUnique(new int[length], 1, 5)).distinct().count());
+        int[] sawtoothArray = Fillers.getSawtooth(new int[10], 1, 3);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 1, 2, 3, 4, 1, 2}, sawtoothArray);
+        assertArrayEquals(new int[]{1, 2, 3, 3, 2, 1}, Fillers.getOrganPipe(new int[6], 1));
+
+        int[] partiallySortedArray = Fillers.getPartiallySorted(new int[length + 3], 1, 7);
+        int descents = 0;
+        for (int i = 0; i < partiallySortedArray.length - 1; i++) {
+            if (partiallySortedArray[i] > partiallySortedArray[i + 1]) descents++;
+        }
+        assertTrue(descents > 0 && descents < 7);
+        Arrays.sort(partiallySortedArray);
+        assertArrayEquals(Fillers.getSorted(length + 3), partiallySortedArray);
+    }
+}
@@ -0,0 +1,90 @@
+package main.output;
+
+import main.analyzer.CellResult;
+import main.analyzer.MemoryStatistics;
+import main.analyzer.TimeStatistics;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ResultJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final int[] lengthSteps = {100, 1000};
+
+    private CellResult getCell(int i) {
+        return new CellResult("getFiller" + i % 2, "Test" + i % 3 + "Sorter", i % 2, lengthSteps[i % 2],
+                TimeStatistics.of(new long[]{i, i + 10L}), new MemoryStatistics(64L * i, i, i, i % 2), null);
+    }
+
+    @Test
+    public void resume() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("analysis.journal");
+        ResultJournal journal = new ResultJournal(file);
+        journal.setSyncInterval(2, 0);
+        assertTrue(journal.open("params", lengthSteps).isEmpty());
+        for (int i = 0; i < 5; i++) {
+            journal.append(getCell(i));
+        }
+        journal.close();
+        long validSize = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 80, 1, 2, 3}));
+        }
+
+        assertEquals(5, ResultJournal.read(file).size());
+        List<CellResult> cells = journal.open("params", lengthSteps);
+        assertEquals(5, cells.size());
+        assertEquals(validSize, Files.size(file));
+        for (int i = 0; i < cells.size(); i++) {
+            assertEquals(getCell(i).getSorterName(), cells.get(i).getSorterName());
+            assertEquals(getCell(i).getTimeStatistics().getMedian(), cells.get(i).getTimeStatistics().getMedian());
+            assertEquals(64L * i, cells.get(i).getMemoryStatistics().getAllocatedBytes());
+        }
+        journal.append(getCell(5));
+        journal.close();
+        assertEquals(6, ResultJournal.read(file).size());
+
+        Path csvFile = folder.newFile().toPath();
+        ResultJournal.export(file, new CsvSink(csvFile));
+        assertEquals(7, Files.readAllLines(csvFile, StandardCharsets.UTF_8).size());
+
+        assertTrue(journal.open("other params", lengthSteps).isEmpty());
+        journal.append(getCell(0));
+        journal.close();
+        assertEquals(1, ResultJournal.read(file).size());
+        assertEquals(6, ResultJournal.read(journal.getKeptFile("params", lengthSteps)).size());
+
+        assertEquals(6, journal.open("params", lengthSteps).size());
+        journal.close();
+        assertEquals(1, ResultJournal.read(journal.getKeptFile("other params", lengthSteps)).size());
+        assertFalse(Files.exists(journal.getKeptFile("params", lengthSteps)));
+    }
+
+    @Test
+    public void syncTimer() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("analysis.journal");
+        ResultJournal journal = new ResultJournal(file);
+        journal.setSyncInterval(1000, 10);
+        journal.open("params", lengthSteps);
+        journal.append(getCell(0));
+        Thread.sleep(50);
+        journal.append(getCell(1));
+        journal.close();
+        assertEquals(2, ResultJournal.read(file).size());
+    }
+}
@@ -0,0 +1,119 @@
+package main.output;
+
+import main.analyzer.CellResult;
+import main.analyzer.MemoryStatistics;
+import main.analyzer.TimeStatistics;
+import main.sorters.OperationCounter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ResultSinksTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final int[] lengthSteps = {100, 1000, 10000};
+
+    private List<CellResult> writeCells(ResultSink sink, int count) throws Exception {
+        List<CellResult> cells = new ArrayList<>();
+        sink.start(lengthSteps);
+        for (int i = 0; i < count; i++) {
+            int lengthIndex = i % lengthSteps.length;
+            CellResult cell = new CellResult("getFiller" + i % 3, "Test" + i % 7 + "Sorter", lengthIndex,
+                    lengthSteps[lengthIndex], TimeStatistics.of(new long[]{i, 2L * i, 3L * i + 1}),
+                    i % 3 == 0 ? null : new MemoryStatistics(1024L * i, i % 2, 5L * i, i % 2),
+                    i % 2 == 0 ? null : new OperationCounter(i, 2L * i, 3L * i, 4L * i));
+            sink.accept(cell);
+            cells.add(cell);
+        }
+        sink.finish();
+        return cells;
+    }
+
+    @Test
+    public void binarySink() throws Exception {
+        Path file = folder.newFile().toPath();
+        List<CellResult> cells = writeCells(new BinarySink(file), 2 * BinarySink.BLOCK_SIZE + 5);
+
+        List<CellResult> readCells = BinaryResultReader.read(file);
+        assertEquals(cells.size(), readCells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            CellResult expected = cells.get(i);
+            CellResult actual = readCells.get(i);
+            assertEquals(expected.getFillerName(), actual.getFillerName());
+            assertEquals(expected.getSorterName(), actual.getSorterName());
+            assertEquals(expected.getLength(), actual.getLength());
+            assertEquals(expected.getTimeStatistics().getMedian(), actual.getTimeStatistics().getMedian());
+            assertEquals(expected.getTimeStatistics().getP99(), actual.getTimeStatistics().getP99());
+            assertEquals(expected.getTimeStatistics().getMean(), actual.getTimeStatistics().getMean(), 0);
+            if (expected.getMemoryStatistics() == null) {
+                assertNull(actual.getMemoryStatistics());
+            } else {
+                assertEquals(expected.getMemoryStatistics().getAllocatedBytes(),
+                        actual.getMemoryStatistics().getAllocatedBytes());
+                assertEquals(expected.getMemoryStatistics().getGcAffectedRuns(),
+                        actual.getMemoryStatistics().getGcAffectedRuns());
+            }
+            if (expected.getOperationCounts() == null) {
+                assertNull(actual.getOperationCounts());
+            } else {
+                assertEquals(expected.getOperationCounts().getSwaps(), actual.getOperationCounts().getSwaps());
+                assertEquals(expected.getOperationCounts().getAllocatedElements(),
+                        actual.getOperationCounts().getAllocatedElements());
+            }
+        }
+    }
+
+    @Test
+    public void textSinks() throws Exception {
+        Path csvFile = folder.newFile().toPath();
+        Path jsonFile = folder.newFile().toPath();
+        writeCells(new CsvSink(csvFile), 10);
+        writeCells(new JsonLinesSink(jsonFile), 10);
+
+        List<String> csvLines = Files.readAllLines(csvFile, StandardCharsets.UTF_8);
+        assertEquals(11, csvLines.size());
+        assertEquals(CsvSink.HEADER, csvLines.get(0));
+        assertEquals("getFiller1,Test1Sorter,1000,3,1,4,2,2.3333333333333335,4,4,1.5275252316519465,3.794889297170311,false,false,1024,1,5,1,1,2,3,4",
+                csvLines.get(2));
+        assertEquals("getFiller2,Test2Sorter,10000,3,2,7,4,4.333333333333333,7,7,2.516611478423583,6.25211405135184,false,false,2048,0,10,0,,,,",
+                csvLines.get(3));
+        List<String> jsonLines = Files.readAllLines(jsonFile, StandardCharsets.UTF_8);
+        assertEquals(10, jsonLines.size());
+        assertEquals("{\"filler\":\"getFiller1\",\"sorter\":\"Test1Sorter\",\"length\":1000,\"iterations\":3,"
+                + "\"min\":1,\"max\":4,\"median\":2,\"mean\":2.3333333333333335,\"p90\":4,\"p99\":4,"
+                + "\"stdDev\":1.5275252316519465,\"confidenceInterval\":3.794889297170311,\"skipped\":false,"
+                + "\"failed\":false,\"allocatedBytes\":1024,\"gcCount\":1,\"gcTime\":5,\"gcAffectedRuns\":1,"
+                + "\"comparisons\":1,\"moves\":2,\"swaps\":3,\"allocatedElements\":4}", jsonLines.get(1));
+    }
+
+    @Test
+    public void failedCells() throws Exception {
+        Path csvFile = folder.newFile().toPath();
+        Path jsonFile = folder.newFile().toPath();
+        for (ResultSink sink : new ResultSink[]{new CsvSink(csvFile), new JsonLinesSink(jsonFile)}) {
+            sink.start(lengthSteps);
+            sink.accept(new CellResult("getSorted", "TestSorter", 0, 100, TimeStatistics.FAILED));
+            sink.finish();
+        }
+
+        assertEquals("getSorted,TestSorter,100,,,,,,,,,,false,true,,,,,,,,",
+                Files.readAllLines(csvFile, StandardCharsets.UTF_8).get(1));
+        assertEquals("{\"filler\":\"getSorted\",\"sorter\":\"TestSorter\",\"length\":100,\"iterations\":null,"
+                + "\"min\":null,\"max\":null,\"median\":null,\"mean\":null,\"p90\":null,\"p99\":null,"
+                + "\"stdDev\":null,\"confidenceInterval\":null,\"skipped\":false,\"failed\":true,"
+                + "\"allocatedBytes\":null,\"gcCount\":null,\"gcTime\":null,\"gcAffectedRuns\":null,"
+                + "\"comparisons\":null,\"moves\":null,\"swaps\":null,\"allocatedElements\":null}",
+                Files.readAllLines(jsonFile, StandardCharsets.UTF_8).get(0));
+    }
+}
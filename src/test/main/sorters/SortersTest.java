@@ -1,12 +1,18 @@
 package main.sorters;
 
 import main.fillers.Fillers;
+import main.offheap.BufferSorter;
 import org.junit.Test;
 
+import java.nio.IntBuffer;
 import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 public class SortersTest {
 
@@ -14,6 +20,27 @@ public class SortersTest {
         return null;
     }
 
+    /**
+     * Checks sorting of arrays of different sizes, with negative values and duplicates, by the passed sorter.
+     */
+    private void checkSorting(Sorter sorter) {
+        Random rnd = new Random(42);
+        int[] lengths = {0, 1, 2, 31, 32, 33, 100, 1000, 10000};
+        for (int length : lengths) {
+            int[][] arrays = {
+                    Fillers.getRandom(length),
+                    Fillers.getReversed(length),
+                    Fillers.getSorted(length),
+                    rnd.ints(length, -10, 10).toArray(),
+                    rnd.ints(length).toArray()};
+            for (int[] array : arrays) {
+                int[] expected = Arrays.copyOf(array, array.length);
+                Arrays.sort(expected);
+                assertArrayEquals(expected, sorter.doSorting(array));
+            }
+        }
+    }
+
     @Test
     public void doSorting() throws Exception {
         Sorter sorter;
@@ -41,9 +68,144 @@ public class SortersTest {
         Arrays.sort(randomSorted);
         assertArrayEquals(randomSorted, sorter.doSorting(random));
 
+        sorter = new BottomUpMergeSorter();
+        assertNotNull(sorter.doSorting(nullAr));
+        Arrays.sort(randomSorted);
+        assertArrayEquals(randomSorted, sorter.doSorting(random));
+
         sorter = new SwapSorter();
         assertNotNull(sorter.doSorting(nullAr));
         Arrays.sort(randomSorted);
         assertArrayEquals(randomSorted, sorter.doSorting(random));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void bottomUpMergeSorter() throws Exception {
+        checkSorting(new BottomUpMergeSorter());
+    }
+
+    @Test
+    public void parallelMergeSorter() throws Exception {
+        checkSorting(new ParallelMergeSorter());
+        checkSorting(new ParallelMergeSorter(ForkJoinPool.commonPool(), 1));
+        checkSorting(new ParallelMergeSorter(new ForkJoinPool(3), 40));
+    }
+
+    @Test
+    public void parallelJavaSorter() throws Exception {
+        checkSorting(new ParallelJavaSorter());
+    }
+
+    @Test
+    public void recursiveSorter() throws Exception {
+        checkSorting(new RecursiveSorter());
+        int length = 2000000;
+        int[][] arrays = {
+                Fillers.getSorted(length),
+                Fillers.getReversed(length),
+                new int[length],
+                new Random(42).ints(length, 0, 3).toArray()};
+        for (int[] array : arrays) {
+            int[] expected = Arrays.copyOf(array, array.length);
+            Arrays.sort(expected);
+            assertArrayEquals(expected, new RecursiveSorter().doSorting(array));
+        }
+    }
+
+    @Test
+    public void radixSorters() throws Exception {
+        checkSorting(new RadixSorter());
+        checkSorting(new CountingSorter());
+        checkSorting(new ParallelRadixSorter());
+        checkSorting(new ParallelRadixSorter(ForkJoinPool.commonPool(), 1));
+        int[] extremes = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        int[] expected = Arrays.copyOf(extremes, extremes.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, new RadixSorter().doSorting(Arrays.copyOf(extremes, extremes.length)));
+        assertArrayEquals(expected, new CountingSorter().doSorting(Arrays.copyOf(extremes, extremes.length)));
+        assertArrayEquals(expected, new ParallelRadixSorter(ForkJoinPool.commonPool(), 1)
+                .doSorting(Arrays.copyOf(extremes, extremes.length)));
+    }
+
+    @Test
+    public void adaptiveBubbleSorters() throws Exception {
+        checkSorting(new AdaptiveBubbleUpSorter());
+        checkSorting(new AdaptiveBubbleDownSorter());
+        checkSorting(new CocktailShakerSorter());
+    }
+
+    @Test
+    public void offHeapSorters() throws Exception {
+        checkSorting(new OffHeapRecursiveSorter());
+        checkSorting(new OffHeapRadixSorter());
+        checkSorting(new HeapCopyRecursiveSorter());
+
+        int[] array = new Random(42).ints(1000).toArray();
+        int[] expected = Arrays.copyOf(array, array.length);
+        Arrays.sort(expected, 100, 900);
+        for (BufferSorter sorter : new BufferSorter[]{
+                new OffHeapRecursiveSorter(), new OffHeapRadixSorter(), new HeapCopyRecursiveSorter()}) {
+            IntBuffer buffer = BufferSorter.allocateDirect(array.length);
+            buffer.put(array);
+            buffer.position(100).limit(900);
+            sorter.sort(buffer);
+            assertEquals(100, buffer.position());
+            assertEquals(900, buffer.limit());
+            int[] actual = new int[array.length];
+            buffer.clear();
+            buffer.get(actual);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooLongDirectBuffer() throws Exception {
+        BufferSorter.allocateDirect(BufferSorter.MAX_DIRECT_LENGTH + 1);
+    }
+
+    @Test
+    public void instrumentedSorters() throws Exception {
+        InstrumentedSorter[] sorters = {new SwapSorter(), new BubbleUpSorter(), new BubbleDownSorter(),
+                new AdaptiveBubbleUpSorter(), new AdaptiveBubbleDownSorter(), new CocktailShakerSorter(),
+                new MergeSorter(), new BottomUpMergeSorter(), new RecursiveSorter(), new RadixSorter(),
+                new CountingSorter()};
+        int[] random = Fillers.getRandom(1000);
+        int[] expected = Arrays.copyOf(random, random.length);
+        Arrays.sort(expected);
+        for (InstrumentedSorter sorter : sorters) {
+            assertNotNull(sorter.doCountedSorting(null, new OperationCounter()));
+            OperationCounter counter = new OperationCounter();
+            assertArrayEquals(expected, sorter.doCountedSorting(Arrays.copyOf(random, random.length), counter));
+            assertArrayEquals(expected, ((Sorter) sorter).doSorting(Arrays.copyOf(random, random.length)));
+            assertTrue(counter.getComparisons() + counter.getMoves() + counter.getSwaps() > 0);
+        }
+
+        OperationCounter counter = new OperationCounter();
+        new SwapSorter().doCountedSorting(Arrays.copyOf(random, random.length), counter);
+        assertEquals(1000L * 999 / 2, counter.getComparisons());
+        assertEquals(999, counter.getSwaps());
+        assertEquals(0, counter.getAllocatedElements());
+
+        long inversions = 0;
+        for (int i = 0; i < random.length; i++) {
+            for (int j = i + 1; j < random.length; j++) {
+                if (random[i] > random[j]) inversions++;
+            }
+        }
+        for (InstrumentedSorter sorter : new InstrumentedSorter[]{new BubbleUpSorter(), new AdaptiveBubbleDownSorter(),
+                new CocktailShakerSorter()}) {
+            counter = new OperationCounter();
+            sorter.doCountedSorting(Arrays.copyOf(random, random.length), counter);
+            assertEquals(inversions, counter.getSwaps());
+        }
+
+        counter = new OperationCounter();
+        new AdaptiveBubbleUpSorter().doCountedSorting(Fillers.getSorted(1000), counter);
+        assertEquals(999, counter.getComparisons());
+        assertEquals(0, counter.getSwaps());
+
+        counter = new OperationCounter();
+        new BottomUpMergeSorter().doCountedSorting(Arrays.copyOf(random, random.length), counter);
+        assertEquals(1000, counter.getAllocatedElements());
+    }
+}